@@ -0,0 +1,96 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 대상 서버 호출 + 응답 시간 기록
+ *
+ * endpoint 이름은 "GET /api/meetings/{id}"처럼 경로 변수를 뺀 형태로 넘겨 같은 API끼리 묶습니다.
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+
+    public ApiClient(HttpClient httpClient, URI baseUrl, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    public Response get(String endpoint, String path, String accessToken) {
+        return send(endpoint, builder(path, accessToken).GET());
+    }
+
+    public Response post(String endpoint, String path, String accessToken, Object body) {
+        return send(endpoint, builder(path, accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(body))));
+    }
+
+    public Response patch(String endpoint, String path, String accessToken) {
+        return send(endpoint, builder(path, accessToken).method("PATCH", HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private HttpRequest.Builder builder(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private Response send(String endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            recorder.recordFailure(endpoint, System.nanoTime() - start);
+            return new Response(-1, new byte[0]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, new byte[0]);
+        }
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * @param status HTTP 상태 코드 (연결 실패/타임아웃이면 -1)
+     */
+    public record Response(int status, byte[] body) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public JsonNode json(ObjectMapper objectMapper) {
+            try {
+                return objectMapper.readTree(body);
+            } catch (IOException e) {
+                throw new IllegalStateException("응답 JSON 파싱 실패 (status=" + status + ")", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단일 인스턴스 수용량 측정 (플랫폼 스레드 vs 가상 스레드 비교용)
+ *
+ * API 부하(mix)를 일정하게 건 상태에서 SSE 구독자를 단계별로 늘리며,
+ * 각 단계에서 API p99와 실패율이 기준을 넘는 첫 단계 직전을 "버틴 수용량"으로 기록합니다.
+ *
+ * 비교 방법 (같은 컨테이너 자원 제한으로 두 번 실행)
+ * 1. ./gradlew bootRun --args='--sse.max-connections-per-member=1000'
+ *    ./gradlew :loadtest:capacity -Dloadtest.label=platform
+ * 2. ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=virtual --sse.max-connections-per-member=1000'
+ *    ./gradlew :loadtest:capacity -Dloadtest.label=virtual
+ * -> report-dir/capacity-{label}-{runId}.json 두 파일의 sustained 항목 비교
+ * (구독자 수만큼 소켓을 여므로 드라이버 쪽 ulimit -n 도 capacity.max 보다 크게)
+ *
+ * 리액티브 SSE 게이트웨이 측정 (구독은 게이트웨이, API는 백엔드)
+ *    ./gradlew :sse-gateway:bootRun --args='--sse.max-connections-per-member=1000'
+ *    ./gradlew :loadtest:capacity -Dloadtest.label=gateway -Dloadtest.sse-base-url=http://localhost:8082 \
+ *        -Dloadtest.capacity.step=10000 -Dloadtest.capacity.max=100000
+ * (드라이버 한 대의 임시 포트는 대상 주소당 약 28,000개라 10만 연결은 드라이버 여러 대 또는 게이트웨이 주소 여러 개로 나눠서)
+ *
+ * 설정 (-Dloadtest.capacity.*, 괄호 안은 기본값 / 그 밖의 값은 LoadTestConfig와 같음)
+ * - start (1000) / step (1000) / max (20000): SSE 구독자 수 단계
+ * - step-duration (PT30S): 단계마다 API 부하를 거는 시간
+ * - p99-slo (PT0.5S): API 엔드포인트 p99 상한 (가장 느린 엔드포인트 기준)
+ * - max-error-ratio (0.01): API 실패(5xx, 타임아웃) 비율 상한 (4xx 업무 거절은 제외)
+ */
+public class CapacityTest {
+
+    private final LoadTestConfig config;
+    private final Capacity capacity;
+    private final String label;
+
+    public CapacityTest(LoadTestConfig config, Capacity capacity, String label) {
+        this.config = config;
+        this.capacity = capacity;
+        this.label = label;
+    }
+
+    public static void main(String[] args) throws Exception {
+        CapacityTest test = new CapacityTest(LoadTestConfig.fromSystemProperties(), Capacity.fromSystemProperties(),
+                LoadTestConfig.property("label", "baseline"));
+        Path report = test.run();
+        System.out.println("결과: " + report.toAbsolutePath());
+    }
+
+    public Path run() throws IOException, InterruptedException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        Instant startedAt = Instant.now();
+
+        LoadTest loadTest = new LoadTest(config);
+        Seeder.SeedData seed = loadTest.seed(runId);
+        LatencyRecorder recorder = loadTest.recorder();
+        LatencyRecorder sseRecorder = loadTest.sseRecorder();
+        SseSubscribers subscribers = loadTest.newSubscribers();
+
+        List<Step> steps = new ArrayList<>();
+        Step sustained = null;
+        try {
+            LoadTest.log("워밍업 %s", config.warmup());
+            loadTest.drive(config.warmup());
+
+            int opened = 0;
+            for (int target = capacity.start(); target <= capacity.max(); target += capacity.step()) {
+                LoadTest.log("SSE 구독자 %d -> %d", opened, target);
+                sseRecorder.reset();
+                long connectStart = System.nanoTime();
+                subscribers.open(target - opened, seed.tokens());
+                LatencyRecorder.EndpointSummary sseConnect = sseRecorder
+                        .summarize((System.nanoTime() - connectStart) / 1e9).get(SseSubscribers.ENDPOINT);
+                opened = target;
+
+                recorder.reset();
+                SseSubscribers.Summary before = subscribers.summary();
+                long stepStart = System.nanoTime();
+                loadTest.drive(capacity.stepDuration());
+                double seconds = (System.nanoTime() - stepStart) / 1e9;
+                Step step = Step.of(target, seconds, recorder.summarize(seconds), sseConnect,
+                        before, subscribers.summary());
+                steps.add(step);
+                LoadTest.log("  api %.1f req/s, 가장 느린 p99 %.1fms, 실패율 %.4f, SSE 연결 %d (실패 %d, 끊김 %d)",
+                        step.apiThroughputPerSecond(), step.apiP99Ms(), step.apiErrorRatio(),
+                        step.sseConnected(), step.sseFailed(), step.sseDropped());
+
+                if (!step.withinLimits(capacity)) {
+                    LoadTest.log("  기준 초과 -> 중단");
+                    break;
+                }
+                sustained = step;
+            }
+        } finally {
+            subscribers.close();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", label);
+        report.put("runId", runId);
+        report.put("startedAt", startedAt);
+        report.put("config", config);
+        report.put("capacity", capacity);
+        report.put("sustained", sustained);
+        report.put("steps", steps);
+
+        Files.createDirectories(config.reportDir());
+        Path file = config.reportDir().resolve("capacity-" + label + "-" + runId + ".json");
+        loadTest.objectMapper().writeValue(file.toFile(), report);
+        return file;
+    }
+
+    /**
+     * 단계 한 번의 결과
+     * @param sseConnected 이 단계가 끝났을 때 유지 중인 구독자 수 (누적 연결 - 끊김)
+     * @param sseFailed    이 단계에서 연결에 실패한 수
+     * @param sseDropped   이 단계에서 서버가 끊은 수
+     * @param sseConnect   이 단계에서 새로 연 구독자의 연결 시간 (처리량은 초당 연결 수)
+     */
+    public record Step(int sseSubscribers,
+                       int sseConnected,
+                       int sseFailed,
+                       int sseDropped,
+                       double apiThroughputPerSecond,
+                       double apiP99Ms,
+                       double apiErrorRatio,
+                       Map<String, LatencyRecorder.EndpointSummary> endpoints,
+                       LatencyRecorder.EndpointSummary sseConnect) {
+
+        static Step of(int target, double seconds, Map<String, LatencyRecorder.EndpointSummary> endpoints,
+                       LatencyRecorder.EndpointSummary sseConnect,
+                       SseSubscribers.Summary before, SseSubscribers.Summary after) {
+            long requests = 0;
+            long failed = 0;
+            double p99 = 0;
+            for (LatencyRecorder.EndpointSummary summary : endpoints.values()) {
+                requests += summary.count();
+                failed += summary.failed();
+                p99 = Math.max(p99, summary.p99Ms());
+            }
+            return new Step(target,
+                    after.connected() - after.dropped(),
+                    after.failed() - before.failed(),
+                    after.dropped() - before.dropped(),
+                    requests / seconds,
+                    p99,
+                    requests == 0 ? 1.0 : (double) failed / requests,
+                    endpoints,
+                    sseConnect);
+        }
+
+        boolean withinLimits(Capacity capacity) {
+            return sseFailed == 0
+                    && sseDropped == 0
+                    && apiP99Ms <= capacity.p99Slo().toMillis()
+                    && apiErrorRatio <= capacity.maxErrorRatio();
+        }
+    }
+
+    public record Capacity(int start, int step, int max, Duration stepDuration, Duration p99Slo,
+                           double maxErrorRatio) {
+
+        static Capacity fromSystemProperties() {
+            return new Capacity(
+                    LoadTestConfig.intProperty("capacity.start", 1000),
+                    LoadTestConfig.intProperty("capacity.step", 1000),
+                    LoadTestConfig.intProperty("capacity.max", 20000),
+                    Duration.parse(LoadTestConfig.property("capacity.step-duration", "PT30S")),
+                    Duration.parse(LoadTestConfig.property("capacity.p99-slo", "PT0.5S")),
+                    Double.parseDouble(LoadTestConfig.property("capacity.max-error-ratio", "0.01")));
+        }
+    }
+}
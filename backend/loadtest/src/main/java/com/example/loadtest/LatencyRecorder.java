@@ -0,0 +1,85 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간/결과 집계 (여러 가상 사용자 스레드에서 동시에 기록)
+ *
+ * 응답 코드는 세 가지로 나눠 셉니다.
+ * - 성공(2xx, 3xx)
+ * - 거절(4xx): 정원 마감, 중복 신청처럼 부하와 상관없이 정상적인 업무 거절
+ * - 실패(5xx, 타임아웃, 연결 오류): 용량 한계 신호
+ */
+public class LatencyRecorder {
+
+    // 1us ~ 60s, 유효숫자 3자리
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, int status) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.histogram.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 1), MAX_MICROS));
+        if (status >= 500 || status < 0) {
+            stats.failed.increment();
+        } else if (status >= 400) {
+            stats.rejected.increment();
+        }
+    }
+
+    public void recordFailure(String endpoint, long elapsedNanos) {
+        record(endpoint, elapsedNanos, -1);
+    }
+
+    /**
+     * 워밍업 구간 집계 버리기
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * @param seconds 측정 구간 길이 (처리량 계산용)
+     */
+    public Map<String, EndpointSummary> summarize(double seconds) {
+        Map<String, EndpointSummary> summaries = new TreeMap<>();
+        endpoints.forEach((name, stats) -> {
+            Histogram histogram = stats.histogram.copy();
+            long count = histogram.getTotalCount();
+            summaries.put(name, new EndpointSummary(
+                    count,
+                    stats.rejected.sum(),
+                    stats.failed.sum(),
+                    count / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getMaxValue())));
+        });
+        return summaries;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static class Endpoint {
+        final ConcurrentHistogram histogram = new ConcurrentHistogram(MAX_MICROS, 3);
+        final LongAdder rejected = new LongAdder();
+        final LongAdder failed = new LongAdder();
+    }
+
+    /**
+     * 결과 JSON의 엔드포인트 한 항목 (시간은 ms)
+     */
+    public record EndpointSummary(long count, long rejected, long failed, double throughputPerSecond,
+                                  double p50Ms, double p90Ms, double p99Ms, double maxMs) {
+    }
+}
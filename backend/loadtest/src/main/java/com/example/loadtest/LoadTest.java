@@ -0,0 +1,274 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 진입점
+ *
+ * 이미 떠 있는 서버(기본 http://localhost:8080)를 대상으로 실행합니다.
+ * 1. docker compose -f docker-compose.local.yml up -d   (MySQL, Redis)
+ * 2. ./gradlew bootRun
+ * 3. ./gradlew :loadtest:run -Dloadtest.duration=PT2M -Dloadtest.users=100
+ *
+ * 순서: 시드 -> SSE 구독자 연결 -> 워밍업 -> 측정 -> 결과 JSON 저장
+ * 결과는 report-dir/result-{runId}.json 에 엔드포인트별 p50/p90/p99/max(ms)와 초당 처리량으로 남습니다.
+ * SSE 연결 시간은 워밍업 전에 재므로 측정 구간 집계와 따로 sseConnect 항목에 남깁니다.
+ */
+public class LoadTest {
+
+    private static final String[] SORTS = {"latest", "closing", "popular", "urgent"};
+    private static final int FEED_PAGE_SIZE = 20;
+    private static final double NEXT_PAGE_RATIO = 0.3;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final LatencyRecorder sseRecorder = new LatencyRecorder(); // SSE 연결 시간 (워밍업 전에 연결하므로 reset 대상에서 분리)
+    private final HttpClient httpClient;
+    private final ApiClient apiClient;
+
+    private volatile Seeder.SeedData seed;
+    private volatile boolean running;
+
+    public LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.apiClient = new ApiClient(httpClient, config.baseUrl(), objectMapper, recorder);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Path report = new LoadTest(config).run();
+        System.out.println("결과: " + report.toAbsolutePath());
+    }
+
+    public Path run() throws IOException, InterruptedException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        Instant startedAt = Instant.now();
+
+        seed(runId);
+
+        int perMember = (config.sseSubscribers() + config.members() - 1) / config.members();
+        if (perMember > 5) {
+            log("주의: 회원당 SSE 연결 %d개 - 서버 한도(기본 5)를 넘는 연결은 먼저 연 것부터 끊깁니다", perMember);
+        }
+        SseSubscribers subscribers = newSubscribers();
+        log("SSE 구독자 %d명 연결", config.sseSubscribers());
+        long connectStart = System.nanoTime();
+        subscribers.open(config.sseSubscribers(), seed.tokens());
+        LatencyRecorder.EndpointSummary sseConnect = sseRecorder.summarize((System.nanoTime() - connectStart) / 1e9)
+                .get(SseSubscribers.ENDPOINT);
+
+        try {
+            log("워밍업 %s", config.warmup());
+            drive(config.warmup());
+            recorder.reset();
+
+            log("측정 %s (가상 사용자 %d명, mix=%s)", config.duration(), config.users(), config.mix());
+            long measureStart = System.nanoTime();
+            drive(config.duration());
+            double seconds = (System.nanoTime() - measureStart) / 1e9;
+
+            Map<String, LatencyRecorder.EndpointSummary> endpoints = recorder.summarize(seconds);
+            SseSubscribers.Summary sse = subscribers.summary();
+            printTable(endpoints, sseConnect, sse);
+            return writeReport(runId, startedAt, seconds, endpoints, sseConnect, sse);
+        } finally {
+            subscribers.close();
+        }
+    }
+
+    Seeder.SeedData seed(String runId) {
+        log("시드 생성: 회원 %d명, 모임 %d개 (runId=%s)", config.members(), config.meetings(), runId);
+        seed = new Seeder(apiClient, objectMapper, config).seed(runId);
+        return seed;
+    }
+
+    SseSubscribers newSubscribers() {
+        return new SseSubscribers(httpClient, config.sseBaseUrl(), sseRecorder);
+    }
+
+    LatencyRecorder recorder() {
+        return recorder;
+    }
+
+    LatencyRecorder sseRecorder() {
+        return sseRecorder;
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * 가상 사용자 users명이 주어진 시간 동안 mix 비율대로 요청 (closed model)
+     */
+    void drive(Duration duration) throws InterruptedException {
+        if (duration.isZero()) {
+            return;
+        }
+        running = true;
+        ExecutorService users = Executors.newFixedThreadPool(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            users.submit(this::virtualUser);
+        }
+        Thread.sleep(duration.toMillis());
+        running = false;
+        users.shutdown();
+        if (!users.awaitTermination(1, TimeUnit.MINUTES)) {
+            users.shutdownNow();
+        }
+    }
+
+    private void virtualUser() {
+        while (running) {
+            try {
+                switch (pick()) {
+                    case FEED -> browseFeed();
+                    case DETAIL -> viewDetail();
+                    case APPLY -> applyAndAccept();
+                }
+                if (!config.thinkTime().isZero()) {
+                    Thread.sleep(config.thinkTime().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // 응답 파싱 실패 등은 해당 요청만 실패로 보고 계속 진행
+            }
+        }
+    }
+
+    private LoadTestConfig.Operation pick() {
+        int total = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<LoadTestConfig.Operation, Integer> entry : config.mix().entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("mix 비율 계산 오류");
+    }
+
+    // 목록 첫 페이지 (+ 일부는 다음 페이지까지)
+    private void browseFeed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder query = new StringBuilder("/api/meetings?size=").append(FEED_PAGE_SIZE)
+                .append("&sortBy=").append(SORTS[random.nextInt(SORTS.length)]);
+        if (random.nextBoolean()) {
+            List<Long> categoryIds = seed.categoryIds();
+            query.append("&categoryId=").append(categoryIds.get(random.nextInt(categoryIds.size())));
+        }
+
+        ApiClient.Response first = apiClient.get("GET /api/meetings", query.toString(), randomToken());
+        if (!first.isSuccess() || random.nextDouble() >= NEXT_PAGE_RATIO) {
+            return;
+        }
+        JsonNode nextCursor = first.json(objectMapper).get("nextCursor");
+        if (nextCursor != null && !nextCursor.isNull()) {
+            apiClient.get("GET /api/meetings (next page)",
+                    query + "&cursor=" + URLEncoder.encode(nextCursor.asText(), StandardCharsets.UTF_8), randomToken());
+        }
+    }
+
+    private void viewDetail() {
+        Seeder.Meeting meeting = randomMeeting();
+        apiClient.get("GET /api/meetings/{id}", "/api/meetings/" + meeting.id(), randomToken());
+    }
+
+    // 신청 -> 방장 승인 (정원 마감/중복 신청은 4xx 거절로 집계)
+    private void applyAndAccept() {
+        Seeder.Meeting meeting = randomMeeting();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int applicant = config.hosts() + random.nextInt(Math.max(config.members() - config.hosts(), 1));
+        List<String> tokens = seed.tokens();
+
+        ApiClient.Response applied = apiClient.post("POST /api/participation/apply", "/api/participation/apply",
+                tokens.get(Math.min(applicant, tokens.size() - 1)),
+                Map.of("meetingPostId", meeting.id(), "joinReason", "load test"));
+        if (!applied.isSuccess()) {
+            return;
+        }
+        long participationId = applied.json(objectMapper).asLong();
+        apiClient.patch("PATCH /api/participation/{id}/status",
+                "/api/participation/" + participationId + "/status?status=ACCEPTED", tokens.get(meeting.host()));
+    }
+
+    private Seeder.Meeting randomMeeting() {
+        List<Seeder.Meeting> meetings = seed.meetings();
+        return meetings.get(ThreadLocalRandom.current().nextInt(meetings.size()));
+    }
+
+    private String randomToken() {
+        List<String> tokens = seed.tokens();
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+
+    private Path writeReport(String runId, Instant startedAt, double seconds,
+                             Map<String, LatencyRecorder.EndpointSummary> endpoints,
+                             LatencyRecorder.EndpointSummary sseConnect,
+                             SseSubscribers.Summary sse) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runId", runId);
+        report.put("startedAt", startedAt);
+        report.put("measuredSeconds", seconds);
+        report.put("config", config);
+        report.put("endpoints", endpoints);
+        report.put("sseConnect", sseConnect); // 처리량은 연결 구간 기준 (초당 연결 수)
+        report.put("sse", sse);
+
+        Files.createDirectories(config.reportDir());
+        Path file = config.reportDir().resolve("result-" + runId + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private static void printTable(Map<String, LatencyRecorder.EndpointSummary> endpoints,
+                                   LatencyRecorder.EndpointSummary sseConnect, SseSubscribers.Summary sse) {
+        System.out.printf("%n%-42s %9s %8s %8s %10s %9s %9s %9s%n",
+                "endpoint", "count", "4xx", "fail", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        endpoints.forEach((name, s) -> System.out.printf("%-42s %9d %8d %8d %10.1f %9.2f %9.2f %9.2f%n",
+                name, s.count(), s.rejected(), s.failed(), s.throughputPerSecond(), s.p50Ms(), s.p99Ms(), s.maxMs()));
+        if (sseConnect != null) {
+            System.out.printf("%-42s %9d %8d %8d %10.1f %9.2f %9.2f %9.2f%n", SseSubscribers.ENDPOINT + " (connect)",
+                    sseConnect.count(), sseConnect.rejected(), sseConnect.failed(), sseConnect.throughputPerSecond(),
+                    sseConnect.p50Ms(), sseConnect.p99Ms(), sseConnect.maxMs());
+        }
+        System.out.printf("%nSSE: connected=%d failed=%d dropped=%d events=%d heartbeats=%d%n",
+                sse.connected(), sse.failed(), sse.dropped(), sse.events(), sse.heartbeats());
+    }
+
+    static void log(String format, Object... args) {
+        System.out.printf("[%s] %s%n", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_TIME), String.format(format, args));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (모두 -Dloadtest.* 시스템 속성, 괄호 안은 기본값)
+ *
+ * - base-url (http://localhost:8080): 대상 서버
+ * - sse-base-url (base-url): SSE 구독 대상 (sse-gateway를 따로 띄웠으면 http://localhost:8082)
+ * - members (500) / meetings (500): 시드 데이터 수 (모임은 앞쪽 hosts명이 나눠서 개설)
+ * - hosts (20): 모임을 여는 회원 수 (참여 승인 요청이 이 회원들에게 몰림)
+ * - users (50): 동시에 요청을 보내는 가상 사용자 수 (closed model, 응답을 받아야 다음 요청)
+ * - mix (feed:60,detail:30,apply:10): 요청 비율
+ * - sse-subscribers (2000): 테스트 내내 연결만 유지하는 SSE 구독자 수
+ *   (회원 토큰을 돌아가며 쓰므로 회원당 연결 수가 서버의 sse.max-connections-per-member(5)를 넘지 않게)
+ * - warmup (PT10S) / duration (PT60S): 워밍업 구간은 집계에서 제외
+ * - think-time (PT0S): 가상 사용자가 요청 사이에 쉬는 시간
+ * - region-id (1): 회원 가입에 쓸 지역 ID
+ * - report-dir (build/reports/loadtest): 결과 JSON 저장 위치
+ */
+public record LoadTestConfig(URI baseUrl,
+                             URI sseBaseUrl,
+                             int members,
+                             int meetings,
+                             int hosts,
+                             int users,
+                             Map<Operation, Integer> mix,
+                             int sseSubscribers,
+                             Duration warmup,
+                             Duration duration,
+                             Duration thinkTime,
+                             long regionId,
+                             Path reportDir) {
+
+    /**
+     * 가상 사용자 1회 동작 종류
+     */
+    public enum Operation {
+        FEED,   // 모임 목록 (정렬/카테고리 무작위, 30%는 다음 페이지까지)
+        DETAIL, // 모임 상세 (조회수 집계 포함)
+        APPLY   // 참여 신청 후 방장이 바로 승인 (알림 생성 + SSE 전송까지 유발)
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        int members = intProperty("members", 500);
+        String baseUrl = property("base-url", "http://localhost:8080");
+        return new LoadTestConfig(
+                URI.create(baseUrl),
+                URI.create(property("sse-base-url", baseUrl)),
+                members,
+                intProperty("meetings", 500),
+                Math.min(intProperty("hosts", 20), members),
+                intProperty("users", 50),
+                parseMix(property("mix", "feed:60,detail:30,apply:10")),
+                intProperty("sse-subscribers", 2000),
+                Duration.parse(property("warmup", "PT10S")),
+                Duration.parse(property("duration", "PT60S")),
+                Duration.parse(property("think-time", "PT0S")),
+                Long.parseLong(property("region-id", "1")),
+                Path.of(property("report-dir", "build/reports/loadtest")));
+    }
+
+    // "feed:60,detail:30,apply:10" -> {FEED=60, DETAIL=30, APPLY=10}
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 loadtest.mix 항목: " + entry);
+            }
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix 비율 합이 0입니다: " + value);
+        }
+        return mix;
+    }
+
+    static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+}
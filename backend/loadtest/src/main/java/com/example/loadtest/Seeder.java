@@ -0,0 +1,128 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+/**
+ * 시드 데이터 생성 (공개 API만 사용 -> MySQL/H2 어느 쪽으로 떠 있어도 동일)
+ *
+ * 1. 회원 members명 가입 + 로그인 (Access Token 보관)
+ * 2. 앞쪽 hosts명이 모임 meetings개를 나눠서 개설
+ *
+ * 실행마다 이메일 앞에 runId를 붙여 이전 실행 데이터와 겹치지 않게 합니다.
+ */
+public class Seeder {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final int PARALLELISM = 16; // 가입/로그인은 BCrypt 때문에 느리므로 병렬로
+
+    private final ApiClient apiClient;
+    private final ObjectMapper objectMapper;
+    private final LoadTestConfig config;
+
+    public Seeder(ApiClient apiClient, ObjectMapper objectMapper, LoadTestConfig config) {
+        this.apiClient = apiClient;
+        this.objectMapper = objectMapper;
+        this.config = config;
+    }
+
+    public SeedData seed(String runId) {
+        List<Long> categoryIds = categoryIds();
+
+        List<String> tokens = parallel(config.members(), i -> {
+            String email = "lt-" + runId + "-" + i + "@loadtest.local";
+            ApiClient.Response registered = apiClient.post("seed POST /api/auth/register", "/api/auth/register", null,
+                    Map.of("email", email, "password", PASSWORD, "nickname", "lt" + runId + i,
+                            "age", 20 + i % 30, "region_id", config.regionId(), "bio", "load test"));
+            require(registered, "회원 가입");
+
+            ApiClient.Response login = apiClient.post("seed POST /api/auth/login", "/api/auth/login", null,
+                    Map.of("email", email, "password", PASSWORD));
+            require(login, "로그인");
+            return login.json(objectMapper).get("accessToken").asText();
+        });
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        List<Meeting> meetings = parallel(config.meetings(), i -> {
+            int host = i % config.hosts();
+            LocalDateTime start = base.plusHours(i % (24 * 30));
+            ApiClient.Response created = apiClient.post("seed POST /api/meetings", "/api/meetings", tokens.get(host),
+                    Map.of("title", "부하 테스트 모임 " + i,
+                            "description", "load test meeting " + i,
+                            "capacity", ThreadLocalRandom.current().nextInt(5, 31),
+                            "startDate", DATE_TIME.format(start),
+                            "endDate", DATE_TIME.format(start.plusHours(2)),
+                            "categoryId", categoryIds.get(i % categoryIds.size())));
+            require(created, "모임 개설");
+            return new Meeting(created.json(objectMapper).get("id").asLong(), host);
+        });
+
+        return new SeedData(tokens, meetings, categoryIds);
+    }
+
+    private List<Long> categoryIds() {
+        ApiClient.Response response = apiClient.get("seed GET /api/categories", "/api/categories", null);
+        require(response, "카테고리 조회");
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode category : response.json(objectMapper)) {
+            ids.add(category.get("id").asLong());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("카테고리가 없습니다. 마이그레이션(V2) 데이터가 들어갔는지 확인하세요.");
+        }
+        return ids;
+    }
+
+    // 인덱스 순서를 유지한 채 병렬 실행 (하나라도 실패하면 시드 중단)
+    private <T> List<T> parallel(int count, IntFunction<T> task) {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+        try {
+            List<Future<T>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> task.apply(index)));
+            }
+            List<T> results = new ArrayList<>(count);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (Exception e) {
+            throw new IllegalStateException("시드 데이터 생성 실패", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void require(ApiClient.Response response, String step) {
+        if (!response.isSuccess()) {
+            throw new IllegalStateException(step + " 실패 (status=" + response.status() + "): "
+                    + new String(response.body()));
+        }
+    }
+
+    /**
+     * @param host 모임을 개설한 회원의 인덱스 (SeedData.tokens 기준)
+     */
+    public record Meeting(long id, int host) {
+    }
+
+    /**
+     * @param tokens 회원 인덱스별 Access Token
+     */
+    public record SeedData(List<String> tokens, List<Meeting> meetings, List<Long> categoryIds) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 연결만 유지하는 SSE 구독자 (서버의 연결 수/하트비트/메모리 부담 재현)
+ *
+ * 블로킹 스레드 없이 HttpClient 비동기 요청 + 줄 단위 구독자로 수천 개를 유지합니다.
+ * 연결 시간은 응답 헤더를 받을 때까지로 재고 "GET /api/subscribe" 항목으로 기록합니다.
+ * (API 요청과 다른 LatencyRecorder를 받아 워밍업 집계를 버릴 때 함께 지워지지 않게 함)
+ * 받은 이벤트 수는 apply 시나리오가 만든 알림이 구독자에게 실제로 도착했는지 확인하는 용도입니다.
+ */
+public class SseSubscribers {
+
+    static final String ENDPOINT = "GET /api/subscribe";
+
+    private static final long CONNECT_TIMEOUT_SECONDS = 30;
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final LatencyRecorder recorder;
+
+    private final Queue<Flow.Subscription> subscriptions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger(); // 서버가 먼저 끊은 연결 (연결 수 제한, 타임아웃 등)
+    private final LongAdder events = new LongAdder();
+    private final LongAdder heartbeats = new LongAdder();
+    private int nextToken; // 여러 번 나눠 열어도 회원 토큰을 이어서 돌아가며 사용
+    private volatile boolean closing;
+
+    public SseSubscribers(HttpClient httpClient, URI baseUrl, LatencyRecorder recorder) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    /**
+     * count개 연결 시작 (회원 토큰을 돌아가며 사용) - 모두 헤더를 받거나 실패할 때까지 대기
+     */
+    public void open(int count, List<String> tokens) {
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[count];
+        for (int i = 0; i < count; i++) {
+            pending[i] = connect(tokens.get(nextToken++ % tokens.size()));
+        }
+        CompletableFuture.allOf(pending).join();
+    }
+
+    /**
+     * @return 응답 헤더를 받았거나 연결에 실패하면 완료되는 Future (스트림 종료를 기다리지 않음)
+     */
+    private CompletableFuture<Void> connect(String accessToken) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        baseUrl.resolve("/api/subscribe?token=" + URLEncoder.encode(accessToken, StandardCharsets.UTF_8)))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+
+        CompletableFuture<Void> established = new CompletableFuture<>();
+        long start = System.nanoTime();
+
+        HttpResponse.BodyHandler<Void> handler = responseInfo -> {
+            int status = responseInfo.statusCode();
+            recorder.record(ENDPOINT, System.nanoTime() - start, status);
+            if (status != 200) {
+                failed.incrementAndGet();
+                established.complete(null);
+                return HttpResponse.BodySubscribers.discarding();
+            }
+            connected.incrementAndGet();
+            established.complete(null);
+            return HttpResponse.BodySubscribers.fromLineSubscriber(new LineCounter());
+        };
+
+        httpClient.sendAsync(request, handler).whenComplete((response, error) -> {
+            if (!established.isDone()) {
+                // 헤더도 못 받고 끝남 (연결 거부, 타임아웃)
+                failed.incrementAndGet();
+                recorder.recordFailure(ENDPOINT, System.nanoTime() - start);
+                established.complete(null);
+            } else if (response == null || response.statusCode() == 200) {
+                if (!closing) {
+                    dropped.incrementAndGet();
+                }
+            }
+        });
+
+        return established.completeOnTimeout(null, CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 모든 연결 종료
+     */
+    public void close() {
+        closing = true;
+        Flow.Subscription subscription;
+        while ((subscription = subscriptions.poll()) != null) {
+            subscription.cancel();
+        }
+    }
+
+    public Summary summary() {
+        return new Summary(connected.get(), failed.get(), dropped.get(), events.sum(), heartbeats.sum());
+    }
+
+    /**
+     * SSE 스트림을 줄 단위로 세기만 하는 구독자
+     */
+    private class LineCounter implements Flow.Subscriber<String> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscriptions.add(subscription);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.startsWith("event:")) {
+                events.increment();
+            } else if (line.startsWith(":")) {
+                heartbeats.increment();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    /**
+     * @param dropped    연결된 뒤 서버가 먼저 끊은 수
+     * @param events     받은 이벤트 수 (연결 시 connect 이벤트 포함)
+     * @param heartbeats 받은 하트비트(주석 줄) 수
+     */
+    public record Summary(int connected, int failed, int dropped, long events, long heartbeats) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.backend.common.security;
+
+import com.example.backend.dto.TokenResponseDto;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 JWT 인증 비용 비교 (./gradlew jmh)
+ *
+ * - legacy: 기존 필터 흐름 (validateToken, getAuthentication 각각 파서를 새로 만들어 두 번 파싱)
+ * - sharedParser: 공유 파서로 한 번만 검증/파싱 (캐시 미스 경로)
+ * - cachedHit: 같은 토큰 재요청 (캐시 적중 경로, 서명 검증 없음)
+ * - getAuthentication: 이미 파싱된 Claims -> Authentication 변환만
+ * - createTokenSet: 로그인/재발급 시 Access + Refresh Token 발급 (서명 2회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-at-least-32-characters-long";
+
+    private Key key;
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationCache authenticationCache;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider();
+        Field secretKey = JwtTokenProvider.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtTokenProvider, SECRET);
+        jwtTokenProvider.init();
+
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        authenticationCache = new JwtAuthenticationCache(jwtTokenProvider, 10_000);
+        token = jwtTokenProvider.createTokenSet(1L, "bench@example.com", "ROLE_USER").getAccessToken();
+        authenticationCache.authenticate(token); // 적중 경로 측정을 위해 미리 적재
+        claims = jwtTokenProvider.parseVerifiedClaims(token);
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return jwtTokenProvider.getAuthentication(claims);
+    }
+
+    @Benchmark
+    public Authentication sharedParser() {
+        return jwtTokenProvider.getAuthentication(jwtTokenProvider.parseVerifiedClaims(token));
+    }
+
+    @Benchmark
+    public Authentication cachedHit() {
+        return authenticationCache.authenticate(token).authentication();
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(claims);
+    }
+
+    @Benchmark
+    public TokenResponseDto createTokenSet() {
+        return jwtTokenProvider.createTokenSet(1L, "bench@example.com", "ROLE_USER");
+    }
+}
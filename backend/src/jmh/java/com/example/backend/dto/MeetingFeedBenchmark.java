@@ -0,0 +1,89 @@
+package com.example.backend.dto;
+
+import com.example.backend.entity.BaseTimeEntity;
+import com.example.backend.entity.Category;
+import com.example.backend.entity.MeetingPost;
+import com.example.backend.entity.Member;
+import com.example.backend.enums.MeetingSortCondition;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모임 목록 한 페이지(100건) 응답 생성 비용 (./gradlew jmh)
+ *
+ * - fromEntities: 엔티티 -> MeetingListResponse 변환만 (MeetingListResponse.from)
+ * - serialize: 변환된 페이지의 JSON 직렬화만 (MeetingFeedCache가 캐시 미스 때 하는 일)
+ * - fromAndSerialize: 변환 + 직렬화 (캐시 없이 매 요청 처리하던 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MeetingFeedBenchmark {
+
+    @Param({"100"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private List<MeetingPost> posts;
+    private MeetingSliceResponse page;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 스프링 부트 기본 설정과 같은 ObjectMapper (JavaTimeModule 등록, 날짜를 문자열로)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Category category = new Category("운동");
+        LocalDateTime now = LocalDateTime.now();
+        posts = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Member creator = Member.builder().id((long) i).nickname("member" + i).email("member" + i + "@example.com").build();
+            MeetingPost post = MeetingPost.builder()
+                    .title("주말 러닝 모임 " + i)
+                    .description("설명")
+                    .capacity(10)
+                    .startDate(now.plusDays(i % 30))
+                    .endDate(now.plusDays(i % 30 + 1))
+                    .creator(creator)
+                    .category(category)
+                    .build();
+            setField(MeetingPost.class, post, "id", (long) i);
+            setField(BaseTimeEntity.class, post, "createdAt", now.minusMinutes(i));
+            posts.add(post);
+        }
+
+        page = toPage(posts);
+    }
+
+    @Benchmark
+    public List<MeetingListResponse> fromEntities() {
+        return posts.stream().map(MeetingListResponse::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] fromAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(toPage(posts));
+    }
+
+    private MeetingSliceResponse toPage(List<MeetingPost> source) {
+        List<MeetingListResponse> content = source.stream().map(MeetingListResponse::from).toList();
+        return MeetingSliceResponse.of(content, content.size(), MeetingSortCondition.LATEST);
+    }
+
+    private static void setField(Class<?> type, Object target, String name, Object value) throws Exception {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
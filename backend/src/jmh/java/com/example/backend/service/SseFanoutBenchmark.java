@@ -0,0 +1,115 @@
+package com.example.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SseService.send 비용 - 이 인스턴스에 연결 10k개가 등록된 상태 (./gradlew jmh)
+ *
+ * - sendOne: 임의의 회원 1명에게 알림 1건 (연결 조회 + 이벤트 직렬화 + 쓰기)
+ * - sendAll: 등록된 모든 회원에게 1건씩 (공지 같은 전체 발송, 1회 = emitters 수만큼 전송)
+ *
+ * 네트워크 I/O를 빼고 서비스 자체 비용만 보도록 쓰기를 버리는 Emitter로 바꿔 끼우고,
+ * 재전송 버퍼(Redis)는 메모리 시퀀스로 대신합니다.
+ * 전송마다 남는 INFO 로그는 src/jmh/resources/logback.xml에서 꺼 두었습니다. (콘솔 출력 시간이 결과를 덮음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseFanoutBenchmark {
+
+    @Param({"10000"})
+    public int emitters;
+
+    // 회원 1명당 연결(기기) 수 - 2 이상이면 sseFanoutExecutor로 병렬 전송
+    @Param({"1", "3"})
+    public int connectionsPerMember;
+
+    private SseService sseService;
+    private ExecutorService fanoutExecutor;
+    private int members;
+
+    @Setup
+    public void setUp() throws Exception {
+        fanoutExecutor = Executors.newFixedThreadPool(4);
+        ObjectMapper objectMapper = new ObjectMapper();
+        sseService = new SseService(null, objectMapper, new InMemoryEventBuffer(objectMapper),
+                fanoutExecutor, connectionsPerMember);
+
+        members = emitters / connectionsPerMember;
+        Map<Long, List<SseService.Connection>> registry = registry(sseService);
+        for (long memberId = 0; memberId < members; memberId++) {
+            List<SseService.Connection> connections = new ArrayList<>(connectionsPerMember);
+            for (int i = 0; i < connectionsPerMember; i++) {
+                connections.add(new SseService.Connection(UUID.randomUUID().toString(), new DiscardingEmitter()));
+            }
+            registry.put(memberId, List.copyOf(connections));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        fanoutExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public void sendOne() {
+        long memberId = ThreadLocalRandom.current().nextInt(members);
+        sseService.send(memberId, "newNotification", "새로운 참여 신청이 있습니다.");
+    }
+
+    @Benchmark
+    public void sendAll() {
+        for (long memberId = 0; memberId < members; memberId++) {
+            sseService.send(memberId, "newNotification", "공지사항이 등록되었습니다.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, List<SseService.Connection>> registry(SseService service) throws Exception {
+        Field field = SseService.class.getDeclaredField("emitters");
+        field.setAccessible(true);
+        return (Map<Long, List<SseService.Connection>>) field.get(service);
+    }
+
+    /**
+     * 이벤트를 직렬화만 하고 버리는 Emitter
+     * (초기화되지 않은 SseEmitter는 보낸 이벤트를 내부 목록에 계속 쌓으므로 그대로 쓰면 안 됨)
+     */
+    private static class DiscardingEmitter extends SseEmitter {
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build();
+        }
+    }
+
+    /**
+     * Redis 없이 이벤트 ID만 발급하는 재전송 버퍼
+     */
+    private static class InMemoryEventBuffer extends SseEventBuffer {
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        InMemoryEventBuffer(ObjectMapper objectMapper) {
+            super(null, objectMapper);
+        }
+
+        @Override
+        public Long append(Long memberId, String eventName, Object data) {
+            return sequence.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.backend.service;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상세 조회 1건당 조회수 쿠키 처리 비용 (./gradlew jmh)
+ *
+ * - legacyPostViewCookie: 기존 MeetingService.handleViewCountWithCookie 방식
+ *   (postView 쿠키 "[1][2][15]..."에서 contains로 검사 후 뒤에 이어 붙임 -> 본 글 수에 비례해 느려지고 길어짐)
+ * - viewerIdCookie: 현재 ViewCountManager.resolveGuestId (고정 길이 viewerId 쿠키 조회만, 중복 판단은 Redis)
+ *
+ * viewedPosts: 쿠키에 이미 기록된 게시글 수 (기존 방식의 쿠키 길이)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ViewCookieBenchmark {
+
+    private static final String POST_VIEW_COOKIE = "postView";
+
+    @Param({"10", "200"})
+    public int viewedPosts;
+
+    private ViewCountManager viewCountManager;
+    private Cookie[] otherCookies;
+    private String postViewValue;
+    private String viewerId;
+    private long postId;
+
+    @Setup
+    public void setUp() {
+        // resolveGuestId는 Redis/DB를 쓰지 않음
+        viewCountManager = new ViewCountManager(null, null, null, null);
+
+        StringBuilder value = new StringBuilder();
+        for (int i = 1; i <= viewedPosts; i++) {
+            value.append('[').append(i).append(']');
+        }
+        postViewValue = value.toString();
+        viewerId = UUID.randomUUID().toString();
+        postId = viewedPosts + 1L; // 처음 보는 글 (쿠키 끝까지 검사 후 이어 붙이는 경로)
+
+        // 브라우저가 함께 보내는 다른 쿠키 (refreshToken, 분석 도구 등)
+        otherCookies = new Cookie[]{
+                new Cookie("refreshToken", "x".repeat(200)),
+                new Cookie("_ga", "GA1.1.123456789.1700000000"),
+                new Cookie("theme", "dark")};
+    }
+
+    @Benchmark
+    public HttpServletResponse legacyPostViewCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(withCookie(POST_VIEW_COOKIE, postViewValue));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handleViewCountWithCookie(postId, request, response);
+        return response;
+    }
+
+    @Benchmark
+    public String viewerIdCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(withCookie("viewerId", viewerId));
+        return viewCountManager.resolveGuestId(request, new MockHttpServletResponse());
+    }
+
+    private Cookie[] withCookie(String name, String value) {
+        Cookie[] cookies = new Cookie[otherCookies.length + 1];
+        System.arraycopy(otherCookies, 0, cookies, 0, otherCookies.length);
+        cookies[otherCookies.length] = new Cookie(name, value);
+        return cookies;
+    }
+
+    // 기존 MeetingService.handleViewCountWithCookie (조회수 증가 부분 제외, 쿠키 처리만)
+    private static void handleViewCountWithCookie(Long postId, HttpServletRequest request, HttpServletResponse response) {
+        Cookie[] cookies = request.getCookies();
+        Cookie viewCookie = null;
+
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookie.getName().equals(POST_VIEW_COOKIE)) {
+                    viewCookie = cookie;
+                    break;
+                }
+            }
+        }
+
+        if (viewCookie != null) {
+            if (!viewCookie.getValue().contains("[" + postId + "]")) {
+                viewCookie.setValue(viewCookie.getValue() + "[" + postId + "]");
+                viewCookie.setPath("/");
+                viewCookie.setMaxAge(60 * 60 * 24);
+                response.addCookie(viewCookie);
+            }
+        } else {
+            Cookie newCookie = new Cookie(POST_VIEW_COOKIE, "[" + postId + "]");
+            newCookie.setPath("/");
+            newCookie.setMaxAge(60 * 60 * 24);
+            response.addCookie(newCookie);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.backend.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 가상 스레드 모드(virtual 프로파일 + Java 21)에서는 I/O를 기다리는 풀(알림, SSE 전송)만 가상 스레드로 바꿉니다.
+ * 풀 크기/큐 제한은 그대로 두어 동시 실행 수 상한은 유지되고, BCrypt처럼 CPU를 쓰는 풀은 플랫폼 스레드로 둡니다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    private final boolean virtualThreads;
+
+    public AsyncConfig(Environment environment) {
+        // spring.threads.virtual.enabled=true 이면서 Java 21 이상일 때만 (Java 17에서 켜도 무시)
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * 알림 저장/전송 전용 스레드 풀 (NotificationDispatcher 워커)
+     * 요청 스레드(Tomcat)와 분리해서 느린 SSE 클라이언트가 API 응답을 지연시키지 않도록 합니다.
+     */
+    @Bean(name = "notificationExecutor")
+    public ThreadPoolTaskExecutor notificationExecutor(@Value("${notification.dispatch.workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers); // 워커는 상주 루프이므로 큐는 최소한으로
+        executor.setThreadNamePrefix("notification-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 한 회원의 여러 기기 연결로 SSE를 동시에 보내는 스레드 풀 (SseService.deliverLocally)
+     * 큐가 가득 차면 호출 스레드에서 직접 보내도록 해서 전송이 유실되지 않게 합니다.
+     */
+    @Bean(name = "sseFanoutExecutor")
+    public ThreadPoolTaskExecutor sseFanoutExecutor(@Value("${sse.fanout.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("sse-fanout-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시 계산/검증 전용 스레드 풀 (PasswordHasher)
+     * CPU를 많이 쓰는 BCrypt가 Tomcat 스레드를 붙잡지 않도록 분리하고,
+     * 큐가 가득 차면 기다리지 않고 거절해서 바로 503으로 응답합니다.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.password.hash-workers:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int workers,
+            @Value("${auth.password.hash-queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 로그인 비밀번호 검증 이후의 I/O 작업 (재해시 저장, 토큰 발급, Refresh Token Redis 저장)
+     * 해시 풀은 CPU 수만큼만 두므로 DB/Redis를 기다리는 작업은 여기로 넘겨 해시 처리량을 지킵니다.
+     * 큐까지 가득 차면 호출 스레드(해시 풀)에서 실행해 로그인 응답이 유실되지 않게 합니다.
+     */
+    @Bean(name = "authIoExecutor")
+    public ThreadPoolTaskExecutor authIoExecutor(@Value("${auth.io-workers:16}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("auth-io-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
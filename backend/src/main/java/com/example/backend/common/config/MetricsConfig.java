@@ -0,0 +1,33 @@
+package com.example.backend.common.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 수집 설정 (/actuator/prometheus 로 노출)
+ *
+ * 자동으로 수집되는 것
+ * - http.server.requests: API별 응답 시간
+ * - spring.data.repository.invocations: 리포지토리 메서드(쿼리)별 실행 시간
+ * - hikaricp.connections.*: DB 커넥션 풀 (active/idle/pending, 대기 시간)
+ * - lettuce.command.*: Redis 명령별 응답 시간
+ * - executor.*: notificationExecutor, sseFanoutExecutor 등 스레드 풀
+ *
+ * 직접 등록하는 것
+ * - service.method: @Timed를 붙인 서비스의 public 메서드별 실행 시간 (아래 TimedAspect)
+ * - sse.*: SseService (연결 수, 전송 성공/실패)
+ * - auth.failures: JwtAuthenticationFilter 인증 실패 (사유 코드별)
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * @Timed 처리기 (클래스에 붙이면 모든 public 메서드를 class/method/exception 태그로 측정)
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
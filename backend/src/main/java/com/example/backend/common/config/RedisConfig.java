@@ -1,5 +1,9 @@
 package com.example.backend.common.config;
 
+import com.example.backend.common.security.TokenBlacklist;
+import com.example.backend.common.security.TokenBlacklistSubscriber;
+import com.example.backend.service.SseRedisSubscriber;
+import com.example.backend.service.SseService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +12,8 @@ import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -58,4 +64,19 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    /**
+     * 인스턴스 간 중계 채널 구독
+     * - SSE 알림: 알림 대상 사용자가 다른 인스턴스에 연결되어 있어도 전달되도록 합니다.
+     * - 로그아웃 블랙리스트: 각 인스턴스의 로컬 블랙리스트 사본을 맞춥니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(SseRedisSubscriber sseRedisSubscriber,
+                                                                       TokenBlacklistSubscriber tokenBlacklistSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(sseRedisSubscriber, new ChannelTopic(SseService.CHANNEL));
+        container.addMessageListener(tokenBlacklistSubscriber, new ChannelTopic(TokenBlacklist.CHANNEL));
+        return container;
+    }
 }
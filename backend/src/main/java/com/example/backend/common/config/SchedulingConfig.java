@@ -0,0 +1,9 @@
+package com.example.backend.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling // 조회수 반영, SSE 하트비트 등 주기 작업 활성화
+public class SchedulingConfig {
+}
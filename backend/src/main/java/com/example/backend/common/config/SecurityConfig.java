@@ -1,11 +1,13 @@
 package com.example.backend.common.config;
 
+import com.example.backend.common.security.JwtAuthenticationCache;
 import com.example.backend.common.security.JwtAuthenticationFilter;
-import com.example.backend.common.security.JwtTokenProvider;
+import com.example.backend.common.security.TokenBlacklist;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
@@ -30,14 +32,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final StringRedisTemplate redisTemplate;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final MeterRegistry meterRegistry;
 
 
 
+    /**
+     * strength(cost) 변경 시 기존 해시는 다음 로그인 때 새 strength로 다시 저장됨 (PasswordHasher.verify)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
 
@@ -66,13 +72,15 @@ public class SecurityConfig {
                         // SSE 구독 엔드포인트: 필터에서 토큰을 검증할 것이므로 permitAll() 설정
                         .requestMatchers("/api/subscribe/**").permitAll()
                         .requestMatchers("/api/test/**").permitAll()
+                        // 지표 수집: 관리 포트(management.server.port)로만 열리고 nginx로는 나가지 않음
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("/api/test/user").hasRole("USER")
                         .requestMatchers("/api/test/admin").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
 
                 // 4. JWT 필터 배치
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, redisTemplate),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtAuthenticationCache, tokenBlacklist, meterRegistry),
                         UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
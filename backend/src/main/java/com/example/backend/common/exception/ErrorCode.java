@@ -17,6 +17,7 @@ public enum ErrorCode {
     INVALID_TOKEN(401, "AUTH_002", "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN(401, "AUTH_003", "만료된 토큰입니다."),
     FORBIDDEN_ACCESS(403, "AUTH_004", "해당 리소스에 대한 접근 권한이 없습니다."),
+    AUTH_SERVER_BUSY(503, "AUTH_005", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Meeting
     MEETING_NOT_FOUND(404, "MEETING_001", "해당 모임을 찾을 수 없습니다."),
@@ -24,6 +25,7 @@ public enum ErrorCode {
     NOT_MEETING_CREATOR(403, "MEETING_003", "모임 수정/삭제 권한이 없습니다."),
     MINIMUM_CAPACITY_REQUIRED(400,"MEETING_004","모임 인원은 최소 2명 이상이어야 합니다."),
     INVALID_CAPACITY(400, "MEETING_005", "현재 참여 인원보다 적은 정원으로 수정할 수 없습니다."),
+    INVALID_CURSOR(400, "MEETING_006", "잘못된 페이지 커서입니다."),
 
     // Participation
     PARTICIPATION_NOT_FOUND(404, "PART_001", "참여 신청 내역을 찾을 수 없습니다."),
@@ -36,6 +38,7 @@ public enum ErrorCode {
     SSE_CONNECTION_ERROR(500, "SSE_001", "실시간 연결 중 오류가 발생했습니다."),
     SSE_SEND_ERROR(500, "SSE_002", "알림 전송에 실패했습니다."),
     SSE_REGISTRY_NOT_FOUND(404, "SSE_003", "등록된 SSE 연결을 찾을 수 없습니다."),
+    SSE_CAPACITY_EXCEEDED(503, "SSE_004", "실시간 연결이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Notification
     NOTIFICATION_NOT_FOUND(404, "NOTI_001", "해당 알림을 찾을 수 없습니다."),
@@ -0,0 +1,61 @@
+package com.example.backend.common.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스 중 하나만 작업하도록 막는 Redis 락 (SET NX PX)
+ *
+ * 락 값에 획득한 쪽의 토큰을 넣고, 해제 시 토큰이 같을 때만 지웁니다.
+ * 작업이 TTL보다 오래 걸려 다른 인스턴스가 락을 다시 잡은 경우, 늦게 끝난 쪽이 남의 락을 풀지 않게 하기 위함입니다.
+ */
+@Slf4j
+public final class RedisLock {
+
+    /**
+     * KEYS[1] 락 키, ARGV[1] 획득 시 넣은 토큰
+     * return: 지웠으면 1, 이미 다른 토큰이면 0
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final String token;
+
+    private RedisLock(StringRedisTemplate redisTemplate, String key, String token) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.token = token;
+    }
+
+    /**
+     * @return 획득한 락 (다른 인스턴스가 잡고 있으면 null)
+     */
+    public static RedisLock tryAcquire(StringRedisTemplate redisTemplate, String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? new RedisLock(redisTemplate, key, token) : null;
+    }
+
+    // 내 토큰일 때만 삭제 (TTL 만료 후 다른 인스턴스가 잡은 락은 그대로 둠)
+    public void release() {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (DataAccessException e) {
+            // 해제에 실패해도 TTL이 지나면 풀리므로 로그만 남김
+            log.warn("락 해제 실패 - key: {}, 사유: {}", key, e.getMessage());
+        }
+    }
+}
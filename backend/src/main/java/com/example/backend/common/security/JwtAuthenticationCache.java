@@ -0,0 +1,93 @@
+package com.example.backend.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 Access Token -> Authentication 캐시
+ *
+ * 같은 토큰으로 들어오는 반복 요청은 서명 검증/Claims 파싱 없이 캐시된 인증 객체를 사용합니다.
+ * - 키: 토큰 SHA-256 해시 (원문 미보관)
+ * - 만료: 항목마다 토큰의 exp 시각에 맞춰 제거 -> 만료된 토큰은 캐시에 남지 않고 다시 검증되어 EXPIRED_TOKEN 처리
+ * - 크기: 최대 항목 수 제한 (초과 시 오래 안 쓰인 항목부터 제거)
+ *
+ * 로그아웃 여부(블랙리스트)는 캐시와 별개로 필터에서 매 요청 확인합니다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(JwtTokenProvider jwtTokenProvider,
+                                  @Value("${jwt.auth-cache.max-size:10000}") long maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환, 없으면 검증/파싱 후 캐시에 저장
+     * @throws com.example.backend.common.exception.CustomException 변조/만료 토큰 (캐시에 저장하지 않음)
+     */
+    public VerifiedToken authenticate(String token) {
+        String key = TokenHasher.hash(token);
+
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.verified();
+        }
+
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(token);
+        VerifiedToken verified = new VerifiedToken(
+                jwtTokenProvider.getAuthentication(claims),
+                jwtTokenProvider.getTokenId(claims, token));
+        cache.put(key, new CachedAuthentication(verified, claims.getExpiration().getTime()));
+        return verified;
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * @param tokenId 블랙리스트 조회용 토큰 식별자 (jti)
+     */
+    public record VerifiedToken(Authentication authentication, String tokenId) {
+    }
+
+    private record CachedAuthentication(VerifiedToken verified, long expiresAtMillis) {
+    }
+
+    /**
+     * 항목별 만료 시간 = 토큰 exp - 현재 시각 (읽기/갱신으로 연장되지 않음)
+     */
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package com.example.backend.common.security;
 
+import com.example.backend.common.exception.CustomException;
 import com.example.backend.common.exception.CustomJwtException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -27,12 +28,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final ObjectMapper objectMapper = new ObjectMapper(); // 재사용 가능하게 필드로 둠
 
-    private final StringRedisTemplate redisTemplate;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache authenticationCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final MeterRegistry meterRegistry;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, StringRedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
-        this.jwtTokenProvider = jwtTokenProvider;
+    public JwtAuthenticationFilter(JwtAuthenticationCache authenticationCache, TokenBlacklist tokenBlacklist,
+                                   MeterRegistry meterRegistry) {
+        this.authenticationCache = authenticationCache;
+        this.tokenBlacklist = tokenBlacklist;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -45,32 +49,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 2. 토큰이 존재할 때만 검증 로직 실행
         if (StringUtils.hasText(token)) {
             try {
-                // jwtTokenProvider.validateToken 내에서 만료/변조 시 CustomJwtException 발생
-                if (jwtTokenProvider.validateToken(token)) {
-
-                    // 3. Redis 블랙리스트(로그아웃 여부) 확인
-                    String isLogout = redisTemplate.opsForValue().get("BL:" + token);
-
-                    if (ObjectUtils.isEmpty(isLogout)) {
-                        // 4. 정상 토큰일 경우 인증 객체 설정
-                        Authentication auth = jwtTokenProvider.getAuthentication(token);
-                        SecurityContextHolder.getContext().setAuthentication(auth);
-                        log.debug("인증 완료 - Principal: {}", auth.getPrincipal());
-                    } else {
-                        // 로그아웃된 토큰인 경우
-                        log.warn("로그아웃된 토큰으로 접근 시도: {}", token);
-                        sendErrorResponse(response, "LOGOUT_TOKEN", "이미 로그아웃된 토큰입니다.");
-                        return;
-                    }
+                // 검증 + 인증 객체 생성 (같은 토큰의 반복 요청은 캐시에서 바로 반환, 만료/변조 시 예외)
+                JwtAuthenticationCache.VerifiedToken verified = authenticationCache.authenticate(token);
+                Authentication auth = verified.authentication();
+
+                // 3. 블랙리스트(로그아웃 여부) 확인 - 로컬 사본 조회 (Redis 왕복 없음)
+                if (!tokenBlacklist.isBlacklisted(verified.tokenId())) {
+                    // 4. 정상 토큰일 경우 인증 객체 설정
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                    log.debug("인증 완료 - Principal: {}", auth.getPrincipal());
+                } else {
+                    // 로그아웃된 토큰인 경우
+                    log.warn("로그아웃된 토큰으로 접근 시도: tokenId={}", verified.tokenId());
+                    recordFailure("LOGOUT_TOKEN");
+                    sendErrorResponse(response, "LOGOUT_TOKEN", "이미 로그아웃된 토큰입니다.");
+                    return;
                 }
+            } catch (CustomException e) {
+                // 만료/변조 토큰 (JwtTokenProvider) -> ErrorCode 이름으로 응답 (프론트는 EXPIRED_TOKEN이면 재발급 시도)
+                String code = e.getErrorCode().name();
+                log.warn("JWT 인증 실패 - 코드: {}", code);
+                recordFailure(code);
+                sendErrorResponse(response, code, e.getErrorCode().getMessage());
+                return;
             } catch (CustomJwtException e) {
                 // 💡 [핵심] 커스텀 예외를 잡아 프론트엔드와 약속한 에러 코드를 응답
                 log.warn("JWT 인증 실패 - 코드: {}, 사유: {}", e.getErrorCode(), e.getMessage());
+                recordFailure(e.getErrorCode());
                 sendErrorResponse(response, e.getErrorCode(), e.getMessage());
                 return; // 필터 중단
             } catch (Exception e) {
                 // 그 외 알 수 없는 인증 에러
                 log.error("인증 처리 중 서버 에러 발생", e);
+                recordFailure("AUTH_ERROR");
                 sendErrorResponse(response, "AUTH_ERROR", "인증 처리 중 오류가 발생했습니다.");
                 return;
             }
@@ -80,6 +91,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 인증 실패 지표 (auth.failures, 사유 코드별) - 코드 종류가 정해져 있어 태그 수가 늘어나지 않음
+     */
+    private void recordFailure(String code) {
+        Counter.builder("auth.failures")
+                .description("JWT 인증 필터에서 거절한 요청 수")
+                .tag("code", code)
+                .register(meterRegistry)
+                .increment();
+    }
+
     /**
      * 에러 응답을 보내는 메서드 (JSONException 해결 버전)
      */
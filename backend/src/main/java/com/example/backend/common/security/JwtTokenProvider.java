@@ -16,7 +16,9 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -36,7 +38,12 @@ public class JwtTokenProvider {
 
     private Key key;
 
+    // 파서는 thread-safe 하므로 한 번만 만들어 재사용 (요청마다 parserBuilder().build() 하지 않음)
+    private JwtParser parser;
+
     // 토큰 유효 기간 설정 (밀리초 단위)
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final long ACCESS_TOKEN_VALIDITY = 1000L * 60 * 60; // 1시간 (보안을 위해 짧게 유지)
     private final long REFRESH_TOKEN_VALIDITY = 1000L * 60 * 60 * 24 * 7; // 7일 (재로그인 번거로움 방지)
 
@@ -46,6 +53,7 @@ public class JwtTokenProvider {
     @PostConstruct
     protected void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /**
@@ -56,22 +64,25 @@ public class JwtTokenProvider {
      */
     public TokenResponseDto createTokenSet(Long id, String email, String role) {
         // 1. Access Token: 모든 정보(ID, Role)를 포함하여 실제 API 요청 시 인증에 사용
-        String accessToken = createToken(id, email, role, ACCESS_TOKEN_VALIDITY);
+        String accessToken = createToken(id, email, role, ACCESS_TOKEN_VALIDITY, newTokenId());
 
         // 2. Refresh Token: 보안상 PK와 Role을 제외하고 이메일만 포함 (액세스 토큰 재발급용)
-        String refreshToken = createToken(null, email, null, REFRESH_TOKEN_VALIDITY);
+        String refreshTokenId = newTokenId();
+        String refreshToken = createToken(null, email, null, REFRESH_TOKEN_VALIDITY, refreshTokenId);
 
         return TokenResponseDto.builder()
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
+                .refreshTokenId(refreshTokenId)
                 .refreshTokenExpirationTime(REFRESH_TOKEN_VALIDITY)
                 .build();
     }
 
     /**
      * [공통] JWT 토큰을 실제로 빌드하는 핵심 로직입니다.
+     * @param tokenId jti 클레임 (Redis 블랙리스트/리프레시 토큰 저장 시 토큰 원문 대신 사용)
      */
-    private String createToken(Long id, String email, String role, long validityMillis) {
+    private String createToken(Long id, String email, String role, long validityMillis, String tokenId) {
         Claims claims = Jwts.claims().setSubject(email);
 
         // 중요: ID와 Role이 존재할 때만 클레임에 추가 (Refresh Token 생성 시엔 null일 수 있음)
@@ -81,19 +92,34 @@ public class JwtTokenProvider {
         Date now = new Date();
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(tokenId)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + validityMillis))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 128비트 난수 jti (Base64url 22자)
+     */
+    private String newTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
     /**
      * [인증 확인] Filter에서 호출. 토큰 내부 정보를 추출해 스프링 시큐리티의 Authentication 객체로 변환합니다.
      * 여기서 Principal에 '이메일'이 아닌 'Long 타입의 ID'를 넣는 것이 포인트입니다.
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        return getAuthentication(parseClaims(token));
+    }
 
+    /**
+     * 이미 검증된 Claims로 Authentication 생성 (JwtAuthenticationCache에서 파싱 1회로 처리할 때 사용)
+     */
+    public Authentication getAuthentication(Claims claims) {
         // [Edge Case] 권한 정보(Role)가 없는 토큰은 차단
         Object roleClaim = claims.get("role");
         if (roleClaim == null) {
@@ -124,27 +150,20 @@ public class JwtTokenProvider {
      * Security 필터에서 사용하는 용도
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다.");
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
-        } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰입니다.");
-            throw new CustomException(ErrorCode.EXPIRED_TOKEN);
-        } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다.");
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
-        } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 잘못되었습니다.");
-            throw new CustomException(ErrorCode.INVALID_TOKEN);
-        }
+        parseVerifiedClaims(token);
+        return true;
     }
 
     public void validateTokenOrThrow(String token) {
+        parseVerifiedClaims(token);
+    }
+
+    /**
+     * [검증 + 파싱] 서명/만료를 검증하고 Claims를 반환합니다. (검증과 파싱을 한 번에)
+     */
+    public Claims parseVerifiedClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return parser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다.");
             throw new CustomException(ErrorCode.INVALID_TOKEN);
@@ -165,8 +184,7 @@ public class JwtTokenProvider {
      */
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build()
-                    .parseClaimsJws(token).getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰이라도 재발급 등을 위해 내부 정보(Claims)는 반환함
             return e.getClaims();
@@ -177,13 +195,24 @@ public class JwtTokenProvider {
      * [로그아웃용] 토큰의 남은 유효 시간을 계산하여 Redis 블랙리스트 등록 시 사용합니다.
      */
     public Long getExpiration(String accessToken) {
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(accessToken).getBody().getExpiration();
+        Date expiration = parser.parseClaimsJws(accessToken).getBody().getExpiration();
 
         long now = new Date().getTime();
         return (expiration.getTime() - now);
     }
 
+    /**
+     * 토큰 식별자 (Redis 키/값에 토큰 원문 대신 저장)
+     * jti가 없는 이전 버전 토큰은 토큰 해시를 식별자로 사용합니다. (배포 전 발급된 토큰 호환)
+     */
+    public String getTokenId(String token) {
+        return getTokenId(parseClaims(token), token);
+    }
+
+    public String getTokenId(Claims claims, String token) {
+        return (claims.getId() != null) ? claims.getId() : TokenHasher.compactHash(token);
+    }
+
     /**
      * 토큰에서 이메일을 추출합니다.
      */
@@ -0,0 +1,105 @@
+package com.example.backend.common.security;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해시 계산/검증을 전용 스레드 풀(passwordHashExecutor)에서 실행
+ *
+ * - 풀/큐가 가득 차면 AUTH_SERVER_BUSY(503)로 바로 거절 (요청 스레드가 줄 서서 기다리지 않음)
+ * - 검증 성공 시 저장된 해시의 strength가 현재 설정보다 낮으면 새 해시를 함께 만들어 돌려줌 (rehash-on-login)
+ * - 지표: auth.password.hash (operation=verify|encode|rehash, 히스토그램), auth.password.hash.queue (대기 시간),
+ *         auth.password.hash.rejected (거절 수)
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Executor executor;
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+    private final Timer rehashTimer;
+    private final Timer queueTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashExecutor") Executor executor,
+                          MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.verifyTimer = hashTimer(meterRegistry, "verify");
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.rehashTimer = hashTimer(meterRegistry, "rehash");
+        this.queueTimer = Timer.builder("auth.password.hash.queue")
+                .description("비밀번호 해시 작업이 풀에서 실행되기까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("풀이 가득 차서 거절된 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 검증 (+ 필요 시 새 strength로 재해시)
+     * @throws CustomException AUTH_SERVER_BUSY 풀이 가득 찬 경우 (호출 스레드에서 바로 발생)
+     */
+    public CompletableFuture<Verification> verify(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            boolean matched = verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+            if (!matched || !passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return new Verification(matched, null);
+            }
+            return new Verification(true, rehashTimer.record(() -> passwordEncoder.encode(rawPassword)));
+        });
+    }
+
+    /**
+     * 새 비밀번호 해시 생성 (회원가입)
+     * @throws CustomException AUTH_SERVER_BUSY 풀이 가득 찬 경우
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.get();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해시 풀 포화 - 요청 거절");
+            throw new CustomException(ErrorCode.AUTH_SERVER_BUSY);
+        }
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("BCrypt 해시 계산/검증 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param upgradedHash strength가 올라가 새로 만든 해시 (재저장 필요 없으면 null)
+     */
+    public record Verification(boolean matched, String upgradedHash) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.common.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃 블랙리스트의 로컬 사본 (토큰 식별자(jti) -> 만료 시각)
+ *
+ * 필터가 매 요청마다 Redis에 "BL:" 조회를 보내지 않도록, 블랙리스트를 인스턴스 메모리에 들고 있습니다.
+ * 1. 로그아웃 시: Redis 저장 후 CHANNEL로 토큰 식별자를 발행 -> 모든 인스턴스가 로컬 사본에 추가 (TokenBlacklistSubscriber)
+ * 2. 주기적으로: "BL:*"를 SCAN 해서 다시 맞춤 (pub/sub는 연결이 끊긴 동안의 메시지를 보장하지 않음)
+ * 3. 첫 동기화가 끝나기 전에는 기존처럼 Redis에 직접 조회
+ *
+ * 해시 집합이라 블룸 필터와 달리 오탐이 없으므로, 로컬 사본에 있으면 Redis 확인 없이 바로 차단합니다.
+ * 항목은 Access Token 만료 시각이 지나면 제거되므로 크기는 최근 1시간 로그아웃 수로 제한됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist {
+
+    public static final String CHANNEL = "auth:blacklist";
+    public static final String BL_PREFIX = "BL:"; // sse-gateway도 같은 키로 로그아웃 여부 확인
+    private static final String SEPARATOR = ":";
+
+    // SCAN으로 가져온 항목은 남은 TTL을 모르므로 Access Token 최대 수명만큼 보관
+    private static final Duration RESYNC_ENTRY_TTL = Duration.ofHours(1);
+
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+    private volatile boolean synced;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 로그아웃된 토큰인지 확인 (동기화 이후에는 Redis 호출 없음)
+     */
+    public boolean isBlacklisted(String tokenId) {
+        if (!synced) {
+            return !ObjectUtils.isEmpty(redisTemplate.opsForValue().get(BL_PREFIX + tokenId));
+        }
+        Long expiresAt = entries.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 로그아웃 처리된 토큰을 이 인스턴스에 바로 반영하고 다른 인스턴스에 알림
+     * (RedisTokenRepository.revokeTokens에서 Redis 저장 후 호출)
+     */
+    public void broadcast(String tokenId, long expirationMillis) {
+        long expiresAt = System.currentTimeMillis() + expirationMillis;
+        add(tokenId, expiresAt);
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenId + SEPARATOR + expiresAt);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스는 다음 resync 때 반영됨
+            log.error("블랙리스트 발행 실패 - 다음 동기화 때 반영됩니다.", e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 메시지 반영 ("토큰식별자:만료시각")
+     */
+    public void handleMessage(String payload) {
+        int separator = payload.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            log.warn("잘못된 블랙리스트 메시지: {}", payload);
+            return;
+        }
+        try {
+            add(payload.substring(0, separator), Long.parseLong(payload.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 블랙리스트 메시지: {}", payload);
+        }
+    }
+
+    /**
+     * Redis 블랙리스트 전체와 다시 맞추고 만료 항목 정리 (기동 직후 1회 + 주기적)
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.resync-interval:PT1M}", initialDelay = 0)
+    public void resync() {
+        long now = System.currentTimeMillis();
+        ScanOptions options = ScanOptions.scanOptions().match(BL_PREFIX + "*").count(1000).build();
+
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                entries.putIfAbsent(toTokenId(keys.next().substring(BL_PREFIX.length())), now + RESYNC_ENTRY_TTL.toMillis());
+            }
+        } catch (DataAccessException e) {
+            log.error("블랙리스트 동기화 실패", e);
+            return;
+        }
+
+        entries.values().removeIf(expiresAt -> expiresAt <= now);
+        if (!synced) {
+            log.info("블랙리스트 로컬 사본 동기화 완료 - {}건", entries.size());
+        }
+        synced = true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void add(String tokenId, long expiresAt) {
+        entries.merge(tokenId, expiresAt, Math::max);
+    }
+
+    // 아직 변환되지 않은 이전 형식 키("BL:" + 토큰 원문)는 토큰 식별자로 바꿔서 보관 (RedisTokenKeyMigration 참고)
+    private String toTokenId(String suffix) {
+        return suffix.indexOf('.') >= 0 ? TokenHasher.compactHash(suffix) : suffix;
+    }
+}
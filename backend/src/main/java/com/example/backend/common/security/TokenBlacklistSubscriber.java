@@ -0,0 +1,24 @@
+package com.example.backend.common.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TokenBlacklist.CHANNEL 구독자
+ * 어느 인스턴스에서 로그아웃하든 모든 인스턴스의 로컬 블랙리스트에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistSubscriber implements MessageListener {
+
+    private final TokenBlacklist tokenBlacklist;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        tokenBlacklist.handleMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 쓰는 고정 길이 해시 (SHA-256, Base64url 43자)
+ * 캐시 키 등에 수백 바이트짜리 JWT 원문을 그대로 들고 있지 않기 위해 사용합니다.
+ */
+public final class TokenHasher {
+
+    private TokenHasher() {
+    }
+
+    public static String hash(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest(token));
+    }
+
+    /**
+     * 앞 128비트만 사용한 짧은 해시 (Base64url 22자, Redis 키 등 저장 용도)
+     */
+    public static String compactHash(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest(token), 16));
+    }
+
+    public static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 지원하지 않는 JVM입니다.", e); // 모든 JVM 필수 알고리즘
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -31,28 +32,30 @@ public class AuthController {
                 .body(Map.of("message", "회원가입이 완료되었습니다!"));
     }
 
+    /**
+     * 비밀번호 검증은 해시 전용 풀에서 처리되므로 비동기로 응답 (검증 중 Tomcat 스레드 반환)
+     */
     @PostMapping("/login")
-    public ResponseEntity<TokenResponseDto> login(@RequestBody LoginRequest loginRequest, HttpServletResponse response) {
+    public CompletableFuture<ResponseEntity<TokenResponseDto>> login(@RequestBody LoginRequest loginRequest) {
         // 1. 서비스에서 토큰 세트(AT, RT) 생성
-        // (실제 구현 시에는 userService 등을 통해 role을 조회해와야 합니다)
-        TokenResponseDto tokenDto = authService.login(loginRequest.getEmail(), loginRequest.getPassword());
-
-        // 2. Refresh Token을 담을 쿠키 생성 (보안 강화)
-        ResponseCookie refreshTokenCookie = ResponseCookie.from("refreshToken", tokenDto.getRefreshToken())
-                .httpOnly(true)    // JavaScript에서 접근 불가 (XSS 방지)
-                .secure(true)      // HTTPS에서만 전송
-                .sameSite("None") // 크로스 도메인/사이트 간 쿠키 전송 허용 추가**
-                .path("/")         // 모든 경로에서 유효
-                .maxAge(tokenDto.getRefreshTokenExpirationTime() / 1000) // 초 단위 설정
-                .sameSite("Strict") // CSRF 방지
-                .build();
-
-        // 3. 응답 헤더에 쿠키 추가
-        response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString());
-
-        // 4. Access Token 정보만 바디에 담아 반환
-        // 클라이언트는 이 JSON을 받아 Authorization 헤더에 Bearer로 사용합니다.
-        return ResponseEntity.ok(tokenDto);
+        return authService.login(loginRequest.getEmail(), loginRequest.getPassword())
+                .thenApply(tokenDto -> {
+                    // 2. Refresh Token을 담을 쿠키 생성 (보안 강화)
+                    ResponseCookie refreshTokenCookie = ResponseCookie.from("refreshToken", tokenDto.getRefreshToken())
+                            .httpOnly(true)    // JavaScript에서 접근 불가 (XSS 방지)
+                            .secure(true)      // HTTPS에서만 전송
+                            .sameSite("None") // 크로스 도메인/사이트 간 쿠키 전송 허용 추가**
+                            .path("/")         // 모든 경로에서 유효
+                            .maxAge(tokenDto.getRefreshTokenExpirationTime() / 1000) // 초 단위 설정
+                            .sameSite("Strict") // CSRF 방지
+                            .build();
+
+                    // 3. 응답 헤더에 쿠키 추가, Access Token 정보만 바디에 담아 반환
+                    // 클라이언트는 이 JSON을 받아 Authorization 헤더에 Bearer로 사용합니다.
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+                            .body(tokenDto);
+                });
     }
 
     @PostMapping("/reissue")
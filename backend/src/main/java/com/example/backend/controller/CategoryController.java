@@ -1,13 +1,15 @@
 package com.example.backend.controller;
 
 import com.example.backend.entity.Category;
-import com.example.backend.repository.CategoryRepository;
+import com.example.backend.service.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -15,12 +17,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryController {
 
-    private final CategoryRepository categoryRepository;
+    private final ReferenceDataCache referenceDataCache;
 
+    /**
+     * 카테고리(id, name) 전체 목록 (DB 대신 캐시에서 반환)
+     * If-None-Match가 ETag와 같으면 스프링이 본문 없이 304로 응답합니다.
+     */
     @GetMapping("/categories")
     public ResponseEntity<List<Category>> getAllCategories() {
-        // DB에 저장된 모든 카테고리(id, name)를 리스트로 반환
-        List<Category> categories = categoryRepository.findAll();
-        return ResponseEntity.ok(categories);
+        ReferenceDataCache.CategoryList categories = referenceDataCache.getCategories();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic())
+                .eTag(categories.etag())
+                .body(categories.categories());
     }
 }
@@ -1,6 +1,7 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.*;
+import com.example.backend.service.MeetingFeedCache;
 import com.example.backend.service.MeetingService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -8,14 +9,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/meetings")
 @RequiredArgsConstructor
@@ -23,6 +23,7 @@ import java.util.List;
 public class MeetingPostController {
 
     private final MeetingService meetingService;
+    private final MeetingFeedCache meetingFeedCache;
 
     /**
      * 새로운 모임 생성 API
@@ -54,15 +55,24 @@ public class MeetingPostController {
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 
+    /**
+     * 모임 목록 조회 API (커서 기반)
+     * GET /api/meetings?sortBy=latest&categoryId=1&cursor={nextCursor}&size=20
+     * 응답 본문은 MeetingSliceResponse JSON (MeetingFeedCache에서 직렬화된 바이트를 그대로 반환)
+     */
     @GetMapping
-    public ResponseEntity<List<MeetingListResponse>> getAllMeetings(
+    public ResponseEntity<byte[]> getAllMeetings(
             @RequestParam(name = "sortBy", required = false, defaultValue = "latest") String sortBy,
-            @RequestParam(name = "categoryId", required = false) Long categoryId) {
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size) {
 
-        log.info("목록 조회 요청: 정렬={}, 카테고리={}", sortBy, categoryId);
-        List<MeetingListResponse> responses = meetingService.getAllMeetings(sortBy, categoryId);
+        log.debug("목록 조회 요청: 정렬={}, 카테고리={}, 커서={}", sortBy, categoryId, cursor);
+        byte[] body = meetingFeedCache.getFeed(sortBy, categoryId, cursor, size);
 
-        return ResponseEntity.status(HttpStatus.OK).body(responses);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     /**
@@ -1,8 +1,6 @@
 package com.example.backend.controller;
 
-import com.example.backend.dto.NotificationResponse;
-import com.example.backend.entity.Notification;
-import com.example.backend.repository.NotificationRepository;
+import com.example.backend.dto.NotificationSliceResponse;
 import com.example.backend.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -10,8 +8,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.nio.file.attribute.UserPrincipal;
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -21,21 +18,46 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     /**
-     * 1. 알림 목록 조회 (GET)
+     * 1. 알림 목록 조회 (GET, 커서 기반)
+     * GET /api/notifications?cursor={nextCursor}&size=20
      */
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getNotifications(
+    public ResponseEntity<NotificationSliceResponse> getNotifications(
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size,
             Authentication authentication) {
 
         // 인증 정보에서 memberId 추출
         Long memberId = Long.valueOf(authentication.getName());
 
-        // 서비스 호출: DTO 리스트 반환
-        List<NotificationResponse> response = notificationService.getMyNotifications(memberId);
+        // 서비스 호출: 한 페이지 + 다음 커서 반환
+        NotificationSliceResponse response = notificationService.getMyNotifications(memberId, cursor, size);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 안 읽은 알림 개수 (GET) - 헤더 배지용, 알림 테이블을 조회하지 않음
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(Authentication authentication) {
+        Long memberId = Long.valueOf(authentication.getName());
+
+        return ResponseEntity.ok(Map.of("count", notificationService.getUnreadCount(memberId)));
+    }
+
+    /**
+     * 모두 읽음 처리 (PATCH)
+     */
+    @PatchMapping("/read-all")
+    public ResponseEntity<Void> readAllNotifications(Authentication authentication) {
+        Long memberId = Long.valueOf(authentication.getName());
+
+        notificationService.markAllAsRead(memberId);
+
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * 2. 알림 읽음 처리 (PATCH)
      */
@@ -9,6 +9,8 @@ import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -22,10 +24,14 @@ public class SseController {
     /**
      * SSE 실시간 알림 구독
      * @param authentication SecurityContext에서 가져온 인증 객체
+     * @param lastEventIdHeader 브라우저 자동 재연결 시 붙는 Last-Event-ID 헤더
+     * @param lastEventIdParam 수동 재연결용 (EventSource는 헤더를 직접 지정할 수 없음)
      * @return SseEmitter (실시간 데이터 스트림)
      */
     @GetMapping(value = "/api/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(Authentication authentication) {
+    public SseEmitter subscribe(Authentication authentication,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
 
         // 1. 인증 체크 (ErrorCode.INVALID_TOKEN 활용 가능)
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -39,10 +45,11 @@ public class SseController {
             // (시큐리티 설정 시 principal에 memberId를 넣었다고 가정)
             Long memberId = Long.valueOf(authentication.getName());
 
-            log.info("SSE 연결 시작: memberId = {}", memberId);
+            String lastEventId = (lastEventIdHeader != null) ? lastEventIdHeader : lastEventIdParam;
+            log.info("SSE 연결 시작: memberId = {}, lastEventId = {}", memberId, lastEventId);
 
-            // 3. SseService를 통해 Emitter 생성 및 반환
-            return sseService.subscribe(memberId);
+            // 3. SseService를 통해 Emitter 생성 및 반환 (lastEventId가 있으면 놓친 이벤트 재전송)
+            return sseService.subscribe(memberId, lastEventId);
 
         } catch (NumberFormatException e) {
             log.error("Authentication Name이 유효한 ID 형식이 아닙니다: {}", authentication.getName());
@@ -0,0 +1,69 @@
+package com.example.backend.dto;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.enums.MeetingSortCondition;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 모임 목록 키셋(커서) 페이지네이션용 커서
+ * 마지막 행의 (정렬 키, id)를 담고, 클라이언트에는 Base64 문자열(opaque)로만 노출합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeetingCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final MeetingSortCondition sort;
+    private final Object key; // LATEST, CLOSING -> LocalDateTime / POPULAR, URGENT -> Integer
+    private final Long id;
+
+    // 현재 페이지의 마지막 행으로 다음 페이지 커서 생성
+    public static MeetingCursor of(MeetingSortCondition sort, MeetingListResponse last) {
+        Object key = switch (sort) {
+            case LATEST -> last.getCreatedAt();
+            case CLOSING -> last.getStartDate();
+            case POPULAR -> last.getViewCount();
+            case URGENT -> last.getCapacity() - last.getCurrentParticipants();
+        };
+        return new MeetingCursor(sort, key, last.getId());
+    }
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 해석
+     * 다른 정렬 조건에서 발급된 커서나 변조된 값은 INVALID_CURSOR로 거절합니다.
+     */
+    public static MeetingCursor decode(String encoded, MeetingSortCondition expected) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, 3);
+
+            if (parts.length != 3 || MeetingSortCondition.valueOf(parts[0]) != expected) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            Object key = switch (expected) {
+                case LATEST, CLOSING -> LocalDateTime.parse(parts[1]);
+                case POPULAR, URGENT -> Integer.valueOf(parts[1]);
+            };
+            return new MeetingCursor(expected, key, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 디코딩 실패, 알 수 없는 정렬명, 숫자 형식 오류 모두 포함
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -30,13 +30,20 @@ public class MeetingDetailResponse {
     private boolean isHost;
 
     public static MeetingDetailResponse from(MeetingPost post, boolean isHost) {
+        return from(post, isHost, 0L);
+    }
+
+    /**
+     * @param pendingViews Redis에 누적되어 아직 DB에 반영되지 않은 조회수
+     */
+    public static MeetingDetailResponse from(MeetingPost post, boolean isHost, long pendingViews) {
         return MeetingDetailResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .description(post.getDescription())
                 .capacity(post.getCapacity())
                 .currentParticipants(post.getCurrentParticipants())
-                .viewCount(post.getViewCount())
+                .viewCount(post.getViewCount() + (int) pendingViews)
                 .categoryName(post.getCategory().getName())
                 .categoryId(post.getCategory().getId())
                 .creatorEmail(post.getCreator().getEmail())
@@ -28,6 +28,28 @@ public class MeetingListResponse {
     private LocalDateTime createdAt;
     private boolean isClosed; // 모집 종료 여부
 
+    /**
+     * JPQL 생성자 프로젝션 전용 (MeetingPostRepositoryCustomImpl.findFeed)
+     * 엔티티를 영속화하지 않고 목록 컬럼만 바로 담습니다. (description TEXT 컬럼 제외)
+     */
+    public MeetingListResponse(Long id, String title, String categoryName, String creatorEmail,
+                               String creatorNickname, Integer capacity, Integer currentParticipants,
+                               Integer viewCount, LocalDateTime startDate, LocalDateTime endDate,
+                               LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.categoryName = categoryName != null ? categoryName : "미지정";
+        this.creatorEmail = creatorEmail != null ? creatorEmail : "알 수 없음";
+        this.creatorNickname = creatorNickname != null ? creatorNickname : "탈퇴한 사용자";
+        this.capacity = capacity;
+        this.currentParticipants = currentParticipants;
+        this.viewCount = viewCount;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.createdAt = createdAt;
+        this.isClosed = currentParticipants >= capacity;
+    }
+
     // Entity -> DTO 변환 메서드
     public static MeetingListResponse from(MeetingPost post) {
         return MeetingListResponse.builder()
@@ -0,0 +1,41 @@
+package com.example.backend.dto;
+
+import com.example.backend.enums.MeetingSortCondition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 모임 목록 한 페이지 응답
+ * nextCursor를 그대로 다음 요청의 cursor 파라미터로 넘기면 이어서 조회됩니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MeetingSliceResponse {
+    private List<MeetingListResponse> content;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+
+    /**
+     * @param rows     size + 1 개까지 조회한 결과 (초과분 1개로 다음 페이지 존재 여부 판단)
+     * @param size     실제 페이지 크기
+     * @param sort     커서 발급 기준 정렬 조건
+     */
+    public static MeetingSliceResponse of(List<MeetingListResponse> rows, int size, MeetingSortCondition sort) {
+        boolean hasNext = rows.size() > size;
+        List<MeetingListResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext
+                ? MeetingCursor.of(sort, content.get(content.size() - 1)).encode()
+                : null;
+
+        return MeetingSliceResponse.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
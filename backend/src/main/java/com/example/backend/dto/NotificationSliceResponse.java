@@ -0,0 +1,35 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 알림 목록 한 페이지 응답
+ * nextCursor를 그대로 다음 요청의 cursor 파라미터로 넘기면 이어서 조회됩니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NotificationSliceResponse {
+    private List<NotificationResponse> content;
+    private Long nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+
+    /**
+     * @param rows size + 1 개까지 조회한 결과 (초과분 1개로 다음 페이지 존재 여부 판단)
+     * @param size 실제 페이지 크기
+     */
+    public static NotificationSliceResponse of(List<NotificationResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<NotificationResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        return NotificationSliceResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
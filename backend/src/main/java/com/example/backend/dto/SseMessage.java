@@ -0,0 +1,19 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스 간 SSE 이벤트 중계용 메시지 (Redis pub/sub payload, 재전송 버퍼 항목)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseMessage {
+    private String origin;    // 발행한 인스턴스 ID (자기 자신이 보낸 메시지는 무시)
+    private Long eventId;     // SSE id 필드 (재연결 시 Last-Event-ID로 돌아옴, 버퍼 기록 실패 시 null)
+    private Long memberId;    // 수신자
+    private String eventName;
+    private Object data;
+}
@@ -1,5 +1,6 @@
 package com.example.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,6 +11,8 @@ import lombok.Getter;
 public class TokenResponseDto {
     private String accessToken;
     private String refreshToken;
+    @JsonIgnore
+    private String refreshTokenId; // Refresh Token의 jti (Redis에 원문 대신 저장, 응답에는 포함하지 않음)
     private Long refreshTokenExpirationTime;
 
 
@@ -8,6 +8,7 @@ import com.example.backend.enums.ParticipationRole;
 import com.example.backend.enums.ParticipationStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.GeneratedColumn;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -39,6 +40,11 @@ public class MeetingPost extends BaseTimeEntity {
     @Column(nullable = false)
     private int viewCount = 0;
 
+    // 잔여석 (DB가 capacity - current_participants로 계산해 저장하는 생성 컬럼, URGENT 정렬/인덱스용)
+    @GeneratedColumn("capacity - current_participants")
+    @Column(name = "remaining_seats")
+    private Integer remainingSeats;
+
     private LocalDateTime startDate;
     private LocalDateTime endDate;
 
@@ -54,13 +60,6 @@ public class MeetingPost extends BaseTimeEntity {
     @OneToMany(mappedBy = "meetingPost", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<Participation> participations = new ArrayList<>();
 
-    /**
-     * 조회시 뷰 카운팅
-     * */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     /**
      * 모임 생성
      * */
@@ -134,17 +133,6 @@ public class MeetingPost extends BaseTimeEntity {
     }
 
 
-    // 참여 인원 증가 (신규 신청 시 사용)
-    public void addParticipant() {
-        // 1. 엣지 케이스 검증: 현재 인원이 정원(capacity)과 같거나 큰지 확인
-        if (this.currentParticipants >= this.capacity) {
-            throw new IllegalStateException("이미 모집 정원(" + this.capacity + "명)이 가득 찼습니다.");
-        }
-
-        // 2. 상태 변경: 필드명 일관성 유지 (currentCount -> currentParticipants)
-        this.currentParticipants++;
-    }
-
     private static void validateDateOrder(LocalDateTime start, LocalDateTime end) {
         if (start != null && end != null && start.isAfter(end)) {
             throw new IllegalArgumentException("시작 시간은 종료 시간보다 빨라야 합니다.");
@@ -1,7 +1,5 @@
 package com.example.backend.entity;
 
-import com.example.backend.common.exception.CustomException;
-import com.example.backend.common.exception.ErrorCode;
 import com.example.backend.dto.RegisterRequest;
 import com.example.backend.enums.MemberStatus;
 import com.example.backend.enums.Role;
@@ -9,7 +7,6 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 
@@ -88,11 +85,6 @@ public class Member extends BaseTimeEntity {
                 .build();
     }
 
-    public void validatePassword(PasswordEncoder passwordEncoder, String rawPassword) {
-        if (!passwordEncoder.matches(rawPassword, this.password)) {
-            throw new CustomException(ErrorCode.INVALID_PASSWORD);
-        }
-    }
 
 
 
@@ -11,6 +11,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "participation", uniqueConstraints = {
+        // 같은 모임 중복 신청 방지 (V9__add_secondary_indexes.sql)
+        @UniqueConstraint(name = "uk_participation_member_post", columnNames = {"member_id", "meeting_post_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Participation extends BaseTimeEntity {
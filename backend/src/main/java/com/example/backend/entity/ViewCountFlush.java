@@ -0,0 +1,31 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회수 일괄 반영 기록 (ViewCountManager.flush)
+ * 같은 run_id의 증가분이 DB에 두 번 더해지지 않도록 증가분과 같은 트랜잭션에서 저장합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "view_count_flush")
+public class ViewCountFlush {
+
+    @Id
+    @Column(length = 36)
+    private String runId;     // VIEW:FLUSHING 묶음에 붙인 ID
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+
+    public ViewCountFlush(String runId) {
+        this.runId = runId;
+        this.appliedAt = LocalDateTime.now();
+    }
+}
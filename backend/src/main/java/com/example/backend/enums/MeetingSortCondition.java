@@ -4,5 +4,20 @@ public enum MeetingSortCondition {
     LATEST,      // 최신순
     CLOSING,     // 마감 임박순 (startDate 기준)
     POPULAR,     // 인기순 (viewCount 기준)
-    URGENT       // 잔여석 적은 순
+    URGENT;      // 잔여석 적은 순
+
+    /**
+     * 요청 파라미터(sortBy) -> 정렬 조건 변환
+     * 알 수 없는 값은 기존 동작과 동일하게 최신순으로 처리
+     */
+    public static MeetingSortCondition from(String sortBy) {
+        if (sortBy == null) {
+            return LATEST;
+        }
+        try {
+            return MeetingSortCondition.valueOf(sortBy.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return LATEST;
+        }
+    }
 }
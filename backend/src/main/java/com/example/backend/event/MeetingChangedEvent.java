@@ -0,0 +1,14 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 목록에 보이는 값이 바뀌었음을 알리는 이벤트 (생성/수정/삭제/참여 승인)
+ * 트랜잭션 커밋 후 MeetingFeedCache가 캐시된 목록 페이지를 비웁니다.
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingChangedEvent {
+    private final Long meetingId;
+}
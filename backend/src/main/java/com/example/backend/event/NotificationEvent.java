@@ -0,0 +1,16 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 생성 요청 이벤트
+ * 호출한 트랜잭션(참여 신청/승인)이 커밋된 뒤에만 NotificationDispatcher가 저장 및 실시간 전송합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationEvent {
+    private final Long receiverId;
+    private final String content;
+    private final String url;
+}
@@ -0,0 +1,15 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 안 읽은 알림 감소 이벤트 (읽음 처리, 모두 읽음, 안 읽은 알림 삭제)
+ * 트랜잭션이 커밋된 뒤에만 NotificationUnreadCounter가 캐시된 개수에서 차감합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationReadEvent {
+    private final Long receiverId;
+    private final long count; // 새로 읽음(또는 삭제) 처리된 안 읽은 알림 수
+}
@@ -2,8 +2,8 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.MeetingPost;
 import com.example.backend.entity.Participation;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,26 +12,24 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface MeetingPostRepository extends JpaRepository<MeetingPost, Long> {
+public interface MeetingPostRepository extends JpaRepository<MeetingPost, Long>, MeetingPostRepositoryCustom {
     @Query("select m from MeetingPost m join fetch m.creator join fetch m.category where m.id = :id")
     Optional<MeetingPost> findByIdWithDetails(@Param("id") Long id);
 
-
-    // 최신 생성일 순으로 전체 조회
-    // N+1 방지를 위한 fetch join
-    @Query("select m from MeetingPost m join fetch m.category join fetch m.creator order by m.createdAt desc")
-    List<MeetingPost> findAllWithDetails();
-
-    // 카테고리 필터링 + 기본 정렬
-    List<MeetingPost> findByCategoryId(Long categoryId, Sort sort);
-
-    // [특수 정렬] 잔여석 적은 순 (capacity - currentParticipants)
-    @Query("SELECT m FROM MeetingPost m " +
-            "JOIN FETCH m.category " +   // ✅ 카테고리 정보 한방에 가져오기
-            "JOIN FETCH m.creator " +    // ✅ 작성자(Member) 정보 한방에 가져오기
-            "WHERE (:categoryId IS NULL OR m.category.id = :categoryId) " +
-            "ORDER BY (m.capacity - m.currentParticipants) ASC")
-    List<MeetingPost> findAllOrderByUrgent(@Param("categoryId") Long categoryId);
+    // 조회수 일괄 반영 (ViewCountManager.flush) - 엔티티 로딩/더티체킹 없이 증가분만 더함
+    @Modifying
+    @Query("UPDATE MeetingPost m SET m.viewCount = m.viewCount + :delta WHERE m.id = :id")
+    int addViewCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 좌석 1개 원자적 확보 (참여 승인 시)
+     * 정원 검사와 증가를 UPDATE 한 문장으로 처리하므로 동시 승인에도 초과 모집이 발생하지 않습니다.
+     * @return 1: 확보 성공 / 0: 정원 마감
+     */
+    @Modifying
+    @Query("UPDATE MeetingPost m SET m.currentParticipants = m.currentParticipants + 1 " +
+            "WHERE m.id = :id AND m.currentParticipants < m.capacity")
+    int claimSeat(@Param("id") Long id);
 
     // 💡 내가 만든 모임 찾기 (최신순)
     List<MeetingPost> findByCreatorIdOrderByCreatedAtDesc(Long creatorId);
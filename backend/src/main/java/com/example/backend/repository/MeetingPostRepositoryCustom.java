@@ -0,0 +1,21 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.MeetingCursor;
+import com.example.backend.dto.MeetingListResponse;
+import com.example.backend.enums.MeetingSortCondition;
+
+import java.util.List;
+
+public interface MeetingPostRepositoryCustom {
+
+    /**
+     * 모임 목록 키셋 페이지 조회
+     * (정렬 키, id) 복합 조건으로 커서 이후 행만 읽으므로 테이블 크기와 무관하게 limit 만큼만 스캔합니다.
+     * 엔티티 대신 MeetingListResponse로 바로 프로젝션하므로 SQL은 항상 1번만 실행됩니다.
+     *
+     * @param categoryId null이면 전체 카테고리
+     * @param cursor     null이면 첫 페이지
+     * @param limit      조회할 최대 행 수
+     */
+    List<MeetingListResponse> findFeed(MeetingSortCondition sort, Long categoryId, MeetingCursor cursor, int limit);
+}
@@ -0,0 +1,86 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.MeetingCursor;
+import com.example.backend.dto.MeetingListResponse;
+import com.example.backend.enums.MeetingSortCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 정렬 조건 x 카테고리 유무 x 커서 유무 조합을 @Query 로 모두 나열하는 대신
+ * JPQL을 조건에 맞게 조립합니다. (OR NULL 조건을 피해서 인덱스 range scan 유지)
+ */
+@RequiredArgsConstructor
+public class MeetingPostRepositoryCustomImpl implements MeetingPostRepositoryCustom {
+
+    private final EntityManager em;
+
+    @Override
+    public List<MeetingListResponse> findFeed(MeetingSortCondition sort, Long categoryId, MeetingCursor cursor, int limit) {
+        String key = sortKey(sort);
+        boolean ascending = isAscending(sort);
+
+        // 목록에 필요한 컬럼만 생성자 프로젝션 (연관 엔티티 지연 로딩 및 N+1 없음)
+        StringBuilder jpql = new StringBuilder("select new com.example.backend.dto.MeetingListResponse(")
+                .append("m.id, m.title, c.name, u.email, u.nickname, ")
+                .append("m.capacity, m.currentParticipants, m.viewCount, ")
+                .append("m.startDate, m.endDate, m.createdAt) ")
+                .append("from MeetingPost m ")
+                .append("join m.category c ")
+                .append("join m.creator u ")
+                .append("where 1 = 1 ");
+
+        if (categoryId != null) {
+            jpql.append("and m.category.id = :categoryId "); // FK 컬럼 직접 비교 (category 조인과 무관)
+        }
+
+        // 잔여석 순은 신청 가능한 모임만 (마감/이미 시작한 모임 제외)
+        boolean openOnly = sort == MeetingSortCondition.URGENT;
+        if (openOnly) {
+            jpql.append("and m.remainingSeats > 0 and m.startDate > :now ");
+        }
+
+        // (key, id) 튜플 비교: 정렬 방향 기준으로 커서 "다음" 행만 조회
+        if (cursor != null) {
+            String op = ascending ? ">" : "<";
+            jpql.append("and (").append(key).append(' ').append(op).append(" :key ")
+                    .append("or (").append(key).append(" = :key and m.id ").append(op).append(" :id)) ");
+        }
+
+        String direction = ascending ? "asc" : "desc";
+        jpql.append("order by ").append(key).append(' ').append(direction)
+                .append(", m.id ").append(direction);
+
+        TypedQuery<MeetingListResponse> query = em.createQuery(jpql.toString(), MeetingListResponse.class);
+        if (categoryId != null) {
+            query.setParameter("categoryId", categoryId);
+        }
+        if (openOnly) {
+            query.setParameter("now", LocalDateTime.now());
+        }
+        if (cursor != null) {
+            query.setParameter("key", cursor.getKey());
+            query.setParameter("id", cursor.getId());
+        }
+
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private String sortKey(MeetingSortCondition sort) {
+        return switch (sort) {
+            case LATEST -> "m.createdAt";
+            case CLOSING -> "m.startDate";
+            case POPULAR -> "m.viewCount";
+            case URGENT -> "m.remainingSeats"; // 생성 컬럼 (V8)
+        };
+    }
+
+    // 마감 임박순, 잔여석 적은 순만 오름차순
+    private boolean isAscending(MeetingSortCondition sort) {
+        return sort == MeetingSortCondition.CLOSING || sort == MeetingSortCondition.URGENT;
+    }
+}
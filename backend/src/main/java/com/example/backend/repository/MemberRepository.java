@@ -2,10 +2,20 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
     Optional<Member> findByEmail(String email);
+
+    // 로그인 시 재해시한 비밀번호 저장 (해시 풀 스레드에서 호출되므로 자체 트랜잭션 사용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
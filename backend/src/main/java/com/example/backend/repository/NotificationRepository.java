@@ -1,18 +1,70 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    // 특정 회원의 알림 목록을 최신순으로 조회 (N+1 방지를 위해 필요시 fetch join 고려)
-    List<Notification> findByReceiverIdOrderByCreatedAtDesc(Long receiverId);
+    // 알림 목록 첫 페이지 (최신순) - id는 IDENTITY라 생성 순서와 같고, receiver_id 인덱스(receiver_id, id)로 정렬 없이 조회
+    List<Notification> findByReceiverIdOrderByIdDesc(Long receiverId, Limit limit);
+
+    // 알림 목록 다음 페이지 (커서 = 이전 페이지 마지막 알림 ID)
+    List<Notification> findByReceiverIdAndIdLessThanOrderByIdDesc(Long receiverId, Long cursor, Limit limit);
 
     // 읽지 않은 알림이 있는지 확인 (프론트 헤더의 '!' 표시 여부 결정용)
     boolean existsByReceiverIdAndIsReadFalse(Long receiverId);
 
-    // 특정 회원의 읽지 않은 알림 개수
+    // 특정 회원의 읽지 않은 알림 개수 (NotificationUnreadCounter 캐시가 없을 때만 사용)
     long countByReceiverIdAndIsReadFalse(Long receiverId);
+
+    /**
+     * 읽음 처리 - 이미 읽은 알림이면 0 (동시 요청이 와도 한 번만 1을 반환하므로 안 읽은 개수를 중복 차감하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markAsReadIfUnread(@Param("id") Long id);
+
+    /**
+     * 모두 읽음 처리 - 엔티티 로딩 없이 UPDATE 한 번
+     * @return 새로 읽음 처리된 알림 수
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiver.id = :receiverId AND n.isRead = false")
+    int markAllAsRead(@Param("receiverId") Long receiverId);
+
+    /**
+     * 안 읽은 알림일 때만 삭제 (1이면 안 읽은 개수 차감 대상)
+     */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id = :id AND n.isRead = false")
+    int deleteIfUnread(@Param("id") Long id);
+
+    // 보관 기간 정리(NotificationPurger): 마지막으로 처리한 ID 다음 알림 (PK 범위 시작점)
+    Optional<Notification> findFirstByIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * 보관 기간 정리 대상 - PK 범위 [fromId, toId) 안에서만 찾음 (PK 범위 스캔, 잠금 범위 제한)
+     * @param expireBefore     이 시각 이전 알림은 읽음 여부와 상관없이 삭제
+     * @param readExpireBefore 이 시각 이전의 읽은 알림 삭제
+     */
+    @Query("SELECT n FROM Notification n WHERE n.id >= :fromId AND n.id < :toId " +
+            "AND (n.createdAt < :expireBefore OR (n.isRead = true AND n.createdAt < :readExpireBefore)) " +
+            "ORDER BY n.id")
+    List<Notification> findPurgeCandidates(@Param("fromId") Long fromId,
+                                           @Param("toId") Long toId,
+                                           @Param("expireBefore") LocalDateTime expireBefore,
+                                           @Param("readExpireBefore") LocalDateTime readExpireBefore);
+
+    // 보관 기간 정리: PK로만 삭제 (엔티티 로딩 없이 DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
@@ -5,6 +5,7 @@ import com.example.backend.entity.Participation;
 import com.example.backend.enums.ParticipationStatus;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -18,6 +19,11 @@ public interface ParticipationRepository extends JpaRepository<Participation, Lo
     // 특정 모임에서 승인(APPROVED)된 참여자 수 조회
     long countByMeetingPostAndStatus(MeetingPost meetingPost, ParticipationStatus status);
 
+    // 상태 전이 원자적 처리 (같은 신청을 동시에 두 번 승인해도 한 번만 성공)
+    @Modifying
+    @Query("UPDATE Participation p SET p.status = :status WHERE p.id = :id AND p.status <> :status")
+    int updateStatusIfChanged(@Param("id") Long id, @Param("status") ParticipationStatus status);
+
     @Query("SELECT p FROM Participation p " +
             "JOIN FETCH p.member " + // 💡 Participation을 가져올 때 Member까지 한 번에!
             "WHERE p.meetingPost.id = :postId")
@@ -0,0 +1,133 @@
+package com.example.backend.repository;
+
+import com.example.backend.common.security.TokenHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.example.backend.repository.RedisTokenRepository.BL_PREFIX;
+import static com.example.backend.repository.RedisTokenRepository.RT_PREFIX;
+
+/**
+ * 토큰 원문으로 저장된 이전 형식 Redis 키를 토큰 식별자 형식으로 변환 (기동 시 1회)
+ *
+ * - BL:{Access Token 원문} -> BL:{해시}   (남은 TTL 유지)
+ * - RT:{email} = Refresh Token 원문 -> Refresh Token 해시   (남은 TTL 유지)
+ *
+ * jti가 없는 이전 토큰은 JwtTokenProvider.getTokenId가 같은 해시(TokenHasher.compactHash)를 식별자로 쓰므로,
+ * 변환 후에도 배포 전에 발급된 토큰으로 재발급/로그아웃이 그대로 동작합니다.
+ * 이전 형식 키는 길어야 Refresh Token 수명(7일) 뒤에 모두 사라지므로, 완료 표시도 그만큼만 유지합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisTokenKeyMigration implements ApplicationRunner {
+
+    private static final String DONE_KEY = "MIGRATION:TOKEN_KEYS";
+    private static final Duration DONE_TTL = Duration.ofDays(7);
+
+    /**
+     * KEYS[1] 이전 키, KEYS[2] 새 키 / ARGV[1] 값
+     * 남은 TTL 그대로 새 키로 옮김 (이미 만료 직전이면 버림)
+     */
+    private static final RedisScript<Long> MOVE_KEY_SCRIPT = new DefaultRedisScript<>(
+            "local ttl = redis.call('PTTL', KEYS[1]) " +
+            "if ttl > 0 then redis.call('SET', KEYS[2], ARGV[1], 'PX', ttl) end " +
+            "return redis.call('DEL', KEYS[1])",
+            Long.class);
+
+    /**
+     * KEYS[1] RT 키 / ARGV[1] 기존 값(원문), ARGV[2] 새 값(해시)
+     * 그 사이 새로 로그인해서 값이 바뀌었으면 건드리지 않음 (compare-and-set)
+     */
+    private static final RedisScript<Long> REPLACE_VALUE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL') return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            // 여러 인스턴스가 동시에 떠도 한 번만 실행
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(DONE_KEY, "running", DONE_TTL))) {
+                return;
+            }
+            int blacklist = migrateBlacklistKeys();
+            int refresh = migrateRefreshTokenValues();
+            log.info("토큰 키 변환 완료 - 블랙리스트 {}건, 리프레시 토큰 {}건", blacklist, refresh);
+        } catch (DataAccessException e) {
+            // 변환 실패해도 기동은 계속 (이전 형식 키는 TTL로 자연 소멸, 해당 토큰만 재로그인 필요)
+            log.error("토큰 키 변환 실패", e);
+            releaseDoneKey();
+        }
+    }
+
+    // 다음 기동 때 다시 시도하도록 실행 표시 삭제 (Redis가 내려가 있으면 실패하므로 기동을 막지 않게 로그만 남김)
+    private void releaseDoneKey() {
+        try {
+            redisTemplate.delete(DONE_KEY);
+        } catch (DataAccessException e) {
+            log.error("토큰 키 변환 실행 표시 삭제 실패 - TTL 만료 후 다시 시도합니다. key={}", DONE_KEY, e);
+        }
+    }
+
+    int migrateBlacklistKeys() {
+        int migrated = 0;
+        try (Cursor<String> keys = scan(BL_PREFIX)) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                String suffix = key.substring(BL_PREFIX.length());
+                if (!isRawToken(suffix)) {
+                    continue;
+                }
+                redisTemplate.execute(MOVE_KEY_SCRIPT,
+                        List.of(key, BL_PREFIX + TokenHasher.compactHash(suffix)), "logout");
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+
+    int migrateRefreshTokenValues() {
+        int migrated = 0;
+        try (Cursor<String> keys = scan(RT_PREFIX)) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                String value = redisTemplate.opsForValue().get(key);
+                if (value == null || !isRawToken(value)) {
+                    continue;
+                }
+                Long replaced = redisTemplate.execute(REPLACE_VALUE_SCRIPT,
+                        List.of(key), value, TokenHasher.compactHash(value));
+                if (replaced != null && replaced == 1L) {
+                    migrated++;
+                }
+            }
+        }
+        return migrated;
+    }
+
+    private Cursor<String> scan(String prefix) {
+        return redisTemplate.scan(ScanOptions.scanOptions().match(prefix + "*").count(1000).build());
+    }
+
+    // JWT 원문은 "header.payload.signature" 형태, 토큰 식별자(Base64url)에는 '.'이 없음
+    private boolean isRawToken(String value) {
+        return value.indexOf('.') >= 0;
+    }
+}
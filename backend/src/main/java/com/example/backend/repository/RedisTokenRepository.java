@@ -2,12 +2,15 @@ package com.example.backend.repository;
 
 import com.example.backend.common.exception.CustomException;
 import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.common.security.TokenBlacklist;
 import com.example.backend.dto.TokenResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.ObjectUtils;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Repository
@@ -16,43 +19,68 @@ public class RedisTokenRepository implements TokenRepository {
 
 
     private final StringRedisTemplate redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
 
-    private static final String RT_PREFIX = "RT:";
-    private static final String BL_PREFIX = "BL:";
+    static final String RT_PREFIX = "RT:";
+    static final String BL_PREFIX = "BL:";
 
+    /**
+     * KEYS[1] RT 키 / ARGV[1] 기존 Refresh Token jti, ARGV[2] 새 jti, ARGV[3] 새 TTL(ms)
+     * 저장값이 기존 jti와 같을 때만 새 jti로 교체 (compare-and-swap)
+     * 다르면 탈취 가능성이 있으므로 저장된 토큰 삭제 후 0 반환
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 0",
+            Long.class);
+
+    /**
+     * KEYS[1] RT 키, KEYS[2] BL 키 / ARGV[1] Access Token 남은 유효 시간(ms)
+     * RT 삭제 + 블랙리스트 등록을 한 번에 처리 (이미 만료된 토큰은 등록 생략)
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "if tonumber(ARGV[1]) > 0 then " +
+            "  redis.call('SET', KEYS[2], 'logout', 'PX', ARGV[1]) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    // RT:{email} -> Refresh Token의 jti (22자, 원문 대신 저장)
     @Override
     public void saveRefreshToken(String email, TokenResponseDto tokenDto) {
         redisTemplate.opsForValue().set(
                 RT_PREFIX + email,
-                tokenDto.getRefreshToken(),
+                tokenDto.getRefreshTokenId(),
                 tokenDto.getRefreshTokenExpirationTime(),
                 TimeUnit.MILLISECONDS
         );
     }
 
+    // 같은 Refresh Token으로 동시에 재발급 요청이 와도 한 요청만 성공 (GET/SET 사이 경쟁 없음)
     @Override
-    public void validateRefreshToken(String email, String refreshToken) {
-        String savedToken = redisTemplate.opsForValue().get(RT_PREFIX + email);
+    public void rotateRefreshToken(String email, String refreshTokenId, TokenResponseDto newTokenDto) {
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(RT_PREFIX + email),
+                refreshTokenId,
+                newTokenDto.getRefreshTokenId(),
+                String.valueOf(newTokenDto.getRefreshTokenExpirationTime()));
 
-        if (ObjectUtils.isEmpty(savedToken) || !savedToken.equals(refreshToken)) {
-            // 토큰 탈취 가능성이 있으므로 저장된 토큰 삭제 후 예외 발생
-            deleteRefreshToken(email);
+        if (rotated == null || rotated != 1L) {
             throw new CustomException(ErrorCode.EXPIRED_TOKEN);
         }
     }
 
+    // BL:{jti} -> "logout" (Access Token 남은 유효 시간만큼 보관)
     @Override
-    public void deleteRefreshToken(String email) {
-        redisTemplate.delete(RT_PREFIX + email);
-    }
-
-    @Override
-    public void addToBlacklist(String accessToken, Long expiration) {
-        redisTemplate.opsForValue().set(
-                BL_PREFIX + accessToken,
-                "logout",
-                expiration,
-                TimeUnit.MILLISECONDS
-        );
+    public void revokeTokens(String email, String accessTokenId, Long expiration) {
+        redisTemplate.execute(REVOKE_SCRIPT,
+                List.of(RT_PREFIX + email, BL_PREFIX + accessTokenId),
+                String.valueOf(expiration));
+        // 모든 인스턴스의 로컬 블랙리스트에 반영 (필터는 Redis 대신 로컬 사본을 조회)
+        tokenBlacklist.broadcast(accessTokenId, expiration);
     }
 }
@@ -2,11 +2,21 @@ package com.example.backend.repository;
 
 import com.example.backend.dto.TokenResponseDto;
 
-import java.util.Optional;
-
+/**
+ * 토큰 저장소 (토큰 원문이 아닌 토큰 식별자(jti)로 저장/조회)
+ * 재발급/로그아웃은 각각 Redis 왕복 1번으로 원자적으로 처리합니다.
+ */
 public interface TokenRepository {
     void saveRefreshToken(String email, TokenResponseDto tokenDto);
-    void validateRefreshToken(String email, String refreshToken);
-    void deleteRefreshToken(String email);
-    void addToBlacklist(String accessToken, Long expiration);
+
+    /**
+     * 저장된 Refresh Token이 refreshTokenId일 때만 새 토큰으로 교체
+     * @throws com.example.backend.common.exception.CustomException EXPIRED_TOKEN (불일치 시 저장된 토큰도 삭제)
+     */
+    void rotateRefreshToken(String email, String refreshTokenId, TokenResponseDto newTokenDto);
+
+    /**
+     * Refresh Token 삭제 + Access Token 블랙리스트 등록
+     */
+    void revokeTokens(String email, String accessTokenId, Long expiration);
 }
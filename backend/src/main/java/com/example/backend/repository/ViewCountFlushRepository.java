@@ -0,0 +1,17 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.ViewCountFlush;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ViewCountFlushRepository extends JpaRepository<ViewCountFlush, String> {
+
+    // 오래된 반영 기록 정리 - 재시도는 다음 주기에 바로 일어나므로 하루 이상 지난 기록은 필요 없음
+    @Modifying
+    @Query("DELETE FROM ViewCountFlush f WHERE f.appliedAt < :before")
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
@@ -3,6 +3,7 @@ package com.example.backend.service;
 import com.example.backend.common.exception.CustomException;
 import com.example.backend.common.exception.ErrorCode;
 import com.example.backend.common.security.JwtTokenProvider;
+import com.example.backend.common.security.PasswordHasher;
 import com.example.backend.dto.RegisterRequest;
 import com.example.backend.dto.TokenResponseDto;
 import com.example.backend.entity.Member;
@@ -10,59 +11,90 @@ import com.example.backend.entity.Region;
 import com.example.backend.enums.MemberStatus;
 import com.example.backend.enums.Role;
 import com.example.backend.repository.MemberRepository;
-import com.example.backend.repository.RegionRepository;
 import com.example.backend.repository.TokenRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.ObjectUtils;
 
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 @Transactional(readOnly = true)
 @Slf4j
-@RequiredArgsConstructor
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final RegionRepository regionRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final TokenRepository tokenRepository;
+    private final Executor authIoExecutor;
+
+    public AuthService(MemberRepository memberRepository,
+                       ReferenceDataCache referenceDataCache,
+                       JwtTokenProvider jwtTokenProvider,
+                       PasswordHasher passwordHasher,
+                       TokenRepository tokenRepository,
+                       @Qualifier("authIoExecutor") Executor authIoExecutor) {
+        this.memberRepository = memberRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordHasher = passwordHasher;
+        this.tokenRepository = tokenRepository;
+        this.authIoExecutor = authIoExecutor;
+    }
 
-    @Transactional
-    public TokenResponseDto login(String email, String password) {
+    /**
+     * 비밀번호 검증만 해시 전용 풀에서 실행하고, 재해시 저장/토큰 발급/Redis 저장은 I/O 풀(authIoExecutor)에서 이어서 처리합니다.
+     * (회원 조회만 요청 스레드의 읽기 트랜잭션에서 수행 / 해시 풀 스레드는 DB·Redis를 기다리지 않음)
+     */
+    public CompletableFuture<TokenResponseDto> login(String email, String password) {
 
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
-
-        member.validatePassword(passwordEncoder, password);
-
-        TokenResponseDto tokenDto = jwtTokenProvider.createTokenSet(
-                member.getId(), email, member.getRole().name());
-
-        tokenRepository.saveRefreshToken(email, tokenDto);
-
-        return tokenDto;
+        return passwordHasher.verify(password, member.getPassword())
+                .thenApplyAsync(verification -> {
+                    if (!verification.matched()) {
+                        throw new CustomException(ErrorCode.INVALID_PASSWORD);
+                    }
+                    // strength가 올라간 경우 새 해시로 교체 (실패해도 로그인은 진행, 다음 로그인 때 재시도)
+                    if (verification.upgradedHash() != null) {
+                        try {
+                            memberRepository.updatePassword(member.getId(), verification.upgradedHash());
+                        } catch (DataAccessException e) {
+                            log.warn("비밀번호 재해시 저장 실패 - memberId: {}", member.getId(), e);
+                        }
+                    }
+
+                    TokenResponseDto tokenDto = jwtTokenProvider.createTokenSet(
+                            member.getId(), email, member.getRole().name());
+
+                    tokenRepository.saveRefreshToken(email, tokenDto);
+
+                    return tokenDto;
+                }, authIoExecutor);
     }
 
-    @Transactional
+    /**
+     * 트랜잭션 없이 실행 -> 해시 계산을 기다리는 동안 DB 커넥션을 잡고 있지 않음
+     * (중복 확인과 저장은 각각 리포지토리의 짧은 트랜잭션, 동시 가입 경합은 email 유니크 제약이 막음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void register(RegisterRequest request) {
 
         if (memberRepository.existsByEmail(request.getEmail())) {
             throw new CustomException(ErrorCode.DUPLICATE_EMAIL);
         }
+        Region region = referenceDataCache.getRegion(request.getRegionId());
 
-        Region region = regionRepository.findById(request.getRegionId())
-                .orElseThrow(() -> new CustomException(ErrorCode.REGION_NOT_FOUND));
-        Member member = Member.createNewMember(request, passwordEncoder.encode(request.getPassword()), region);
+        String encodedPassword = passwordHasher.encode(request.getPassword()).join();
 
-        memberRepository.save(member);
+        memberRepository.save(Member.createNewMember(request, encodedPassword, region));
         log.info("회원가입 완료 - Email: {}", request.getEmail());
     }
 
@@ -72,21 +104,19 @@ public class AuthService {
         // 1. Refresh Token 검증
         jwtTokenProvider.validateTokenOrThrow(refreshToken);
 
-        // 2. 이메일 추출 및 Redis 저장값 확인
+        // 2. 이메일 추출
         String email = jwtTokenProvider.getUserEmail(refreshToken);
 
-        tokenRepository.validateRefreshToken(email, refreshToken);
-
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
-        // 5. 새로운 토큰 세트 생성 (ID 포함)
+        // 3. 새로운 토큰 세트 생성 (ID 포함)
         TokenResponseDto newTokenSet = jwtTokenProvider.createTokenSet(
                 member.getId(), member.getEmail(), member.getRole().name()
         );
 
-        // 6. Redis 리프레시 토큰 갱신
-        tokenRepository.saveRefreshToken(email, newTokenSet);
+        // 4. Redis 저장값이 요청한 토큰일 때만 새 토큰으로 교체 (불일치 시 EXPIRED_TOKEN)
+        tokenRepository.rotateRefreshToken(email, jwtTokenProvider.getTokenId(refreshToken), newTokenSet);
 
         return newTokenSet;
     }
@@ -97,8 +127,7 @@ public class AuthService {
         String email = jwtTokenProvider.getUserEmail(accessToken);
         Long expiration = jwtTokenProvider.getExpiration(accessToken);
 
-        // Redis 처리
-        tokenRepository.deleteRefreshToken(email);
-        tokenRepository.addToBlacklist(accessToken, expiration);
+        // Redis 처리 (RT 삭제 + 블랙리스트 등록 한 번에)
+        tokenRepository.revokeTokens(email, jwtTokenProvider.getTokenId(accessToken), expiration);
     }
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.example.backend.service;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.dto.MeetingSliceResponse;
+import com.example.backend.enums.MeetingSortCondition;
+import com.example.backend.event.MeetingChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 모임 목록(GET /api/meetings) 응답 캐시
+ *
+ * 목록은 로그인 여부와 상관없이 같은 내용이므로, 직렬화까지 끝난 JSON 바이트를 (정렬, 카테고리, 커서, 크기)별로 보관합니다.
+ * 캐시 적중 시 쿼리/Jackson 직렬화 없이 바이트를 그대로 응답합니다.
+ *
+ * - 만료: 짧은 TTL (조회수 등 이벤트 없이 바뀌는 값과 다른 인스턴스의 변경은 TTL 안에서 반영)
+ * - 무효화: 이 인스턴스에서 모임 생성/수정/삭제/참여 승인이 커밋되면 전체 비움
+ * - 같은 키로 동시에 들어온 요청은 한 번만 조회 (나머지는 결과를 기다림)
+ *
+ * 조회는 캐시 내부 락(ConcurrentHashMap.compute의 synchronized) 밖에서 합니다.
+ * 락 안에서는 빈 Future만 등록하고, 조회는 등록에 성공한 요청 스레드가 직접 수행한 뒤 Future를 채웁니다.
+ * (락 안에서 DB를 기다리면 가상 스레드가 캐리어 스레드에 고정(pinning)되어 다른 요청까지 막힘)
+ */
+@Slf4j
+@Component
+public class MeetingFeedCache implements MeterBinder {
+
+    private final MeetingService meetingService;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<FeedKey, byte[]> pages;
+
+    public MeetingFeedCache(MeetingService meetingService,
+                            ObjectMapper objectMapper,
+                            @Value("${meeting.feed-cache.ttl:PT5S}") Duration ttl,
+                            @Value("${meeting.feed-cache.max-size:1000}") long maxSize) {
+        this.meetingService = meetingService;
+        this.objectMapper = objectMapper;
+        this.pages = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * 직렬화된 목록 페이지 (없으면 조회 후 저장)
+     * @throws CustomException 잘못된 커서 등 (캐시에 저장하지 않음)
+     */
+    public byte[] getFeed(String sortBy, Long categoryId, String cursor, int size) {
+        FeedKey key = new FeedKey(MeetingSortCondition.from(sortBy), categoryId,
+                (cursor == null || cursor.isBlank()) ? null : cursor, size);
+
+        CompletableFuture<byte[]> loading = new CompletableFuture<>();
+        CompletableFuture<byte[]> page = pages.get(key, (k, executor) -> loading);
+        if (page == loading) {
+            // 이 요청이 처음 -> 직접 조회 (실패한 Future는 캐시에서 자동으로 빠짐)
+            // Error(OOM 등)도 Future를 채워야 기다리던 요청이 영원히 멈추지 않음
+            try {
+                byte[] body = serialize(meetingService.getAllMeetings(sortBy, categoryId, cursor, size));
+                loading.complete(body);
+                return body;
+            } catch (Throwable e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return await(page);
+    }
+
+    // 다른 요청이 조회 중인 결과 대기 (조회 중 발생한 예외는 그대로 전달)
+    private static byte[] await(CompletableFuture<byte[]> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        pages.synchronous().invalidateAll();
+        log.debug("모임 목록 캐시 비움 - 변경된 모임 ID: {}", event.getMeetingId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, pages, "meetingFeed");
+    }
+
+    private byte[] serialize(MeetingSliceResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("모임 목록 직렬화 실패", e);
+        }
+    }
+
+    private record FeedKey(MeetingSortCondition sort, Long categoryId, String cursor, int size) {
+    }
+}
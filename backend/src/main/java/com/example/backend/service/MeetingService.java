@@ -7,19 +7,20 @@ import com.example.backend.entity.Category;
 import com.example.backend.entity.MeetingPost;
 import com.example.backend.entity.Member;
 import com.example.backend.entity.Participation;
+import com.example.backend.enums.MeetingSortCondition;
 import com.example.backend.enums.ParticipationRole;
 import com.example.backend.enums.ParticipationStatus;
-import com.example.backend.repository.CategoryRepository;
+import com.example.backend.event.MeetingChangedEvent;
 import com.example.backend.repository.MeetingPostRepository;
 import com.example.backend.repository.MemberRepository;
 import com.example.backend.repository.ParticipationRepository;
 
-import jakarta.servlet.http.Cookie;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
@@ -34,22 +36,27 @@ public class MeetingService {
 
     private final MeetingPostRepository meetingPostRepository;
     private final ParticipationRepository participationRepository;
-    private final CategoryRepository categoryRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
+    private final ViewCountManager viewCountManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 50;
 
     @Transactional
     public Long createMeeting(MeetingPostCreateRequest request, Long memberId) {
         Member creator = memberRepository.findById(memberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
+        Category category = referenceDataCache.getCategory(request.getCategoryId());
 
 
         // 엔티티에게 방장을 포함한 모임 생성 위힘
         MeetingPost post = MeetingPost.createMeeting(request, creator, category);
 
-        return meetingPostRepository.save(post).getId();
+        Long meetingId = meetingPostRepository.save(post).getId();
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId));
+        return meetingId;
     }
 
     /**
@@ -66,11 +73,11 @@ public class MeetingService {
         // 권한 검증
         post.validateCreator(post, memberId);
 
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
+        Category category = referenceDataCache.getCategory(request.getCategoryId());
 
         // 엔티티의 update 메서드로 데이터 위임
         post.update(request, category);
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId));
     }
 
     /**
@@ -87,91 +94,47 @@ public class MeetingService {
 
         // 3. 삭제 수행 (연관된 참여 정보는 JPA Cascade 설정에 따라 처리)
         meetingPostRepository.delete(post);
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId));
 
         log.info("모임 삭제 완료 - ID: {}, 삭제자: {}", meetingId, memberId);
     }
 
 
-    @Transactional
+    /**
+     * 모임 상세 조회
+     * 조회수 증가는 ViewCountManager가 Redis에서 처리하므로 읽기 전용 트랜잭션으로 동작합니다.
+     */
+    @Transactional(readOnly = true)
     public MeetingDetailResponse getMeetingDetail(Long id, Long currentMemberId, HttpServletRequest request, HttpServletResponse response) {
         // 1. Fetch Join을 사용하여 Member와 Category를 한 번에 가져오는 레포지토리 메서드 호출
         MeetingPost post = meetingPostRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEETING_NOT_FOUND));
 
-        // 2. 조회수 중복 방지 로직 (쿠키 활용)
-        handleViewCountWithCookie(post, id, request, response);
+        // 2. 조회수 중복 방지 + 증가 (Redis 누적, DB 반영은 주기적으로 일괄 처리)
+        long pendingViews = viewCountManager.recordView(id, currentMemberId, request, response);
 
         boolean isHost = post.isHost(currentMemberId);
 
-        return MeetingDetailResponse.from(post, isHost);
+        return MeetingDetailResponse.from(post, isHost, pendingViews);
     }
 
     /**
-     * 쿠키를 사용하여 24시간 내 중복 조회를 방지하는 프라이빗 메서드
-     *
-     * 웹 기술에 의존적인 로직이라서 ViewCountManager같은 컴포넌트에 넣거나
-     * 인터셉터/AOP로 분리 할 예정
+     * 모임 목록 조회 (키셋 페이지네이션)
+     * @param sortBy     latest / closing / popular / urgent
+     * @param categoryId null이면 전체 카테고리
+     * @param cursor     이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size       페이지 크기 (최대 MAX_PAGE_SIZE)
      */
-    private void handleViewCountWithCookie(MeetingPost post, Long postId, HttpServletRequest request, HttpServletResponse response) {
-        Cookie[] cookies = request.getCookies();
-        Cookie viewCookie = null;
-
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (cookie.getName().equals("postView")) {
-                    viewCookie = cookie;
-                    break;
-                }
-            }
-        }
-
-        if (viewCookie != null) {
-            // 이미 해당 게시글을 본 적이 있는지 확인 (예: [1][2][15])
-            if (!viewCookie.getValue().contains("[" + postId + "]")) {
-                post.incrementViewCount();
-                viewCookie.setValue(viewCookie.getValue() + "[" + postId + "]");
-                viewCookie.setPath("/");
-                viewCookie.setMaxAge(60 * 60 * 24); // 24시간 유지
-                response.addCookie(viewCookie);
-            }
-        } else {
-            // 쿠키가 아예 없는 경우 새로 생성
-            post.incrementViewCount();
-            Cookie newCookie = new Cookie("postView", "[" + postId + "]");
-            newCookie.setPath("/");
-            newCookie.setMaxAge(60 * 60 * 24);
-            response.addCookie(newCookie);
-        }
-    }
-
     @Transactional(readOnly = true)
-    public List<MeetingListResponse> getAllMeetings(String sortBy, Long categoryId) {
-        // sort를 변수로 추출
-        Sort sort = getSortOrder(sortBy);
-
-        // 카테고리가 있다면 카테고리 + sort
-        // 카테고리가 없다면 sort만
-        List<MeetingPost> posts = (categoryId != null)
-                ? meetingPostRepository.findByCategoryId(categoryId, sort)
-                : meetingPostRepository.findAll(sort);
-
-        // 'urgent' 케이스만 따로 처리하는 구조는 유지하되, 전체적으로 stream 활용
-        if ("urgent".equalsIgnoreCase(sortBy)) {
-            posts = meetingPostRepository.findAllOrderByUrgent(categoryId);
-        }
-
-        return posts.stream()
-                .map(MeetingListResponse::from)
-                .collect(Collectors.toList());
-    }
+    public MeetingSliceResponse getAllMeetings(String sortBy, Long categoryId, String cursor, int size) {
+        MeetingSortCondition sort = MeetingSortCondition.from(sortBy);
+        MeetingCursor after = (cursor != null && !cursor.isBlank()) ? MeetingCursor.decode(cursor, sort) : null;
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (DTO 프로젝션, 쿼리 1회)
+        List<MeetingListResponse> rows = meetingPostRepository.findFeed(sort, categoryId, after, pageSize + 1);
 
-    // 정렬 조건 생성 로직 분리 (가독성 향상)
-    private Sort getSortOrder(String sortBy) {
-        return switch (sortBy.toLowerCase()) {
-            case "closing" -> Sort.by(Sort.Direction.ASC, "startDate");
-            case "popular" -> Sort.by(Sort.Direction.DESC, "viewCount");
-            default -> Sort.by(Sort.Direction.DESC, "createdAt");
-        };
+        return MeetingSliceResponse.of(rows, pageSize, sort);
     }
 
     /**
@@ -0,0 +1,218 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Notification;
+import com.example.backend.event.NotificationEvent;
+import com.example.backend.repository.MemberRepository;
+import com.example.backend.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 비동기 처리 파이프라인
+ *
+ * 1. 호출 트랜잭션 커밋 후(AFTER_COMMIT) 이벤트를 제한된 크기의 큐에 적재 (요청 스레드는 여기서 끝)
+ * 2. 워커가 큐에서 최대 batchSize 만큼 꺼내 한 트랜잭션으로 저장
+ *    (실패 시 한 번 더 시도하고, 그래도 실패하면 한 건씩 저장 -> 문제 있는 알림만 버림)
+ * 3. 저장 후 수신자별 안 읽은 알림 개수 증가 (NotificationUnreadCounter)
+ * 4. SSE 전송 (전송 실패는 개별 로그만 남기고 다른 알림에 영향 없음)
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationRepository notificationRepository;
+    private final MemberRepository memberRepository;
+    private final SseService sseService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final TaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<NotificationEvent> queue;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+    private final int batchSize;
+    private final int workers;
+
+    private volatile boolean running;
+    private CountDownLatch stopped;
+
+    public NotificationDispatcher(NotificationRepository notificationRepository,
+                                  MemberRepository memberRepository,
+                                  SseService sseService,
+                                  NotificationUnreadCounter unreadCounter,
+                                  @Qualifier("notificationExecutor") TaskExecutor executor,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${notification.dispatch.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${notification.dispatch.batch-size:100}") int batchSize,
+                                  @Value("${notification.dispatch.workers:2}") int workers) {
+        this.notificationRepository = notificationRepository;
+        this.memberRepository = memberRepository;
+        this.sseService = sseService;
+        this.unreadCounter = unreadCounter;
+        this.executor = executor;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.workers = workers;
+
+        // AFTER_COMMIT 시점에는 기존 트랜잭션 리소스가 아직 바인딩되어 있으므로 항상 새 트랜잭션으로 저장
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("notification.dispatch.queue.size", queue, BlockingQueue::size)
+                .description("저장/전송 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("notification.dispatch.overflow")
+                .description("큐가 가득 차서 요청 스레드에서 바로 저장한 알림 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.dispatch.dropped")
+                .description("한 건씩 다시 저장해도 실패해서 버린 알림 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        stopped = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::runWorker);
+        }
+    }
+
+    // 종료 시 큐에 남은 알림까지 저장한 뒤 워커 종료 (Repository 빈보다 먼저 정리됨)
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        stopped.await(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 호출 트랜잭션이 커밋된 경우에만 실행 (롤백된 신청/승인에 대한 알림은 생기지 않음)
+     * 트랜잭션 밖에서 발행된 이벤트도 처리 (fallbackExecution)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationEvent event) {
+        if (!queue.offer(event)) {
+            // 큐 포화: 알림 유실 대신 저장만 하고 실시간 전송은 생략 (목록 조회 시 확인 가능)
+            overflowCounter.increment();
+            log.warn("알림 큐 포화 - 실시간 전송 없이 저장만 합니다. receiverId={}", event.getReceiverId());
+            persist(List.of(event));
+        }
+    }
+
+    private void runWorker() {
+        try {
+            pollLoop();
+        } finally {
+            stopped.countDown();
+        }
+    }
+
+    private void pollLoop() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("알림 배치 처리 실패 - {}건", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 단위 처리: 한 트랜잭션으로 저장 -> 커밋 후 SSE 전송 (저장된 알림만)
+     */
+    void dispatch(List<NotificationEvent> batch) {
+        List<NotificationEvent> saved = persist(batch);
+
+        for (NotificationEvent event : saved) {
+            try {
+                sseService.send(event.getReceiverId(), "newNotification", event.getContent());
+            } catch (RuntimeException e) {
+                log.warn("실시간 알림 전송 실패 - receiverId={}, 사유: {}", event.getReceiverId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 -> 실패하면 한 번 재시도 (일시적인 DB 오류) -> 그래도 실패하면 한 건씩 저장
+     * 탈퇴한 수신자(FK 위반)처럼 특정 행만 문제인 경우 그 알림만 버리고 나머지는 살립니다.
+     * @return 커밋된 알림 (SSE 전송 대상)
+     */
+    private List<NotificationEvent> persist(List<NotificationEvent> batch) {
+        List<NotificationEvent> saved = batch;
+        try {
+            save(batch);
+        } catch (RuntimeException e) {
+            log.warn("알림 배치 저장 실패 - 한 번 더 시도합니다. {}건", batch.size(), e);
+            try {
+                save(batch);
+            } catch (RuntimeException retryFailure) {
+                log.warn("알림 배치 재시도 실패 - 한 건씩 저장합니다. {}건", batch.size(), retryFailure);
+                saved = saveEach(batch);
+            }
+        }
+
+        // 커밋된 뒤에만 증가 (저장 실패한 알림은 제외)
+        if (!saved.isEmpty()) {
+            unreadCounter.increment(saved.stream()
+                    .collect(Collectors.groupingBy(NotificationEvent::getReceiverId, Collectors.counting())));
+        }
+        return saved;
+    }
+
+    private List<NotificationEvent> saveEach(List<NotificationEvent> batch) {
+        List<NotificationEvent> saved = new ArrayList<>(batch.size());
+        for (NotificationEvent event : batch) {
+            try {
+                save(List.of(event));
+                saved.add(event);
+            } catch (RuntimeException e) {
+                droppedCounter.increment();
+                log.error("알림 저장 실패로 버립니다. receiverId={}", event.getReceiverId(), e);
+            }
+        }
+        return saved;
+    }
+
+    private void save(List<NotificationEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> notificationRepository.saveAll(
+                events.stream()
+                        .map(event -> new Notification(
+                                memberRepository.getReferenceById(event.getReceiverId()), // 프록시 (SELECT 없음)
+                                event.getContent(),
+                                event.getUrl()))
+                        .toList()));
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.backend.service;
+
+import com.example.backend.common.redis.RedisLock;
+import com.example.backend.entity.Notification;
+import com.example.backend.event.NotificationReadEvent;
+import com.example.backend.repository.NotificationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 알림 보관 기간 정리 (주기 작업)
+ *
+ * - 읽은 알림: read-retention(기본 30일)이 지나면 삭제
+ * - 모든 알림: retention(기본 180일)이 지나면 읽음 여부와 상관없이 삭제
+ *
+ * PK 순서대로 batch-size 폭의 ID 범위씩 잘라 범위마다 짧은 트랜잭션으로 지웁니다.
+ * (한 번에 큰 DELETE를 날리면 InnoDB가 긴 시간 넓은 범위를 잠가 알림 저장/읽음 처리가 밀림)
+ * ID는 생성 순서와 같으므로, 범위 시작 알림이 read-retention보다 새것이면 그 뒤도 모두 새것이라 멈춥니다.
+ *
+ * archive-dir을 지정하면 삭제 전에 실행 1회당 gzip NDJSON 파일 하나로 남깁니다.
+ * 파일 기록 후 삭제 전에 중단되면 다음 실행 때 같은 행이 다시 기록될 수 있습니다. (누락 없이 중복 허용)
+ */
+@Slf4j
+@Component
+public class NotificationPurger {
+
+    private static final String LOCK_KEY = "NOTI:PURGE_LOCK"; // 여러 인스턴스 동시 실행 방지
+    private static final DateTimeFormatter ARCHIVE_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private final Duration readRetention;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration lockTtl;
+    private final Path archiveDir; // null이면 보관 안 함
+
+    private final Counter purgedCounter;
+    private final Counter archivedCounter;
+    private final DistributionSummary purgedPerRun;
+    private final Timer runTimer;
+
+    public NotificationPurger(NotificationRepository notificationRepository,
+                              StringRedisTemplate redisTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${notification.retention.read-retention:P30D}") Duration readRetention,
+                              @Value("${notification.retention.retention:P180D}") Duration retention,
+                              @Value("${notification.retention.batch-size:500}") int batchSize,
+                              @Value("${notification.retention.max-batches-per-run:2000}") int maxBatchesPerRun,
+                              @Value("${notification.retention.lock-ttl:PT30M}") Duration lockTtl,
+                              @Value("${notification.retention.archive-dir:}") String archiveDir) {
+        this.notificationRepository = notificationRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.readRetention = readRetention;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.lockTtl = lockTtl;
+        this.archiveDir = archiveDir.isBlank() ? null : Path.of(archiveDir);
+
+        this.purgedCounter = Counter.builder("notification.retention.purged")
+                .description("보관 기간이 지나 삭제된 알림 수")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("notification.retention.archived")
+                .description("삭제 전에 파일로 보관한 알림 수")
+                .register(meterRegistry);
+        this.purgedPerRun = DistributionSummary.builder("notification.retention.purged.per-run")
+                .description("실행 1회당 삭제된 알림 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("notification.retention.run")
+                .description("보관 기간 정리 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.retention.purge-interval:PT1H}",
+            initialDelayString = "${notification.retention.initial-delay:PT5M}")
+    public void purge() {
+        RedisLock lock = RedisLock.tryAcquire(redisTemplate, LOCK_KEY, lockTtl);
+        if (lock == null) {
+            return;
+        }
+
+        try {
+            long purged = runTimer.record(this::purgeExpired);
+            purgedPerRun.record(purged);
+            if (purged > 0) {
+                log.info("알림 보관 기간 정리 완료 - {}건 삭제", purged);
+            }
+        } catch (RuntimeException e) {
+            log.error("알림 보관 기간 정리 실패 - 다음 주기에 이어서 처리합니다.", e);
+        } finally {
+            lock.release();
+        }
+    }
+
+    /**
+     * @return 이번 실행에서 삭제한 알림 수
+     */
+    long purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expireBefore = now.minus(retention);
+        LocalDateTime readExpireBefore = now.minus(readRetention);
+
+        long purged = 0;
+        long lastId = 0;
+        try (ArchiveWriter archive = new ArchiveWriter(now)) {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                Optional<Notification> first = notificationRepository.findFirstByIdGreaterThanOrderByIdAsc(lastId);
+                if (first.isEmpty() || !first.get().getCreatedAt().isBefore(readExpireBefore)) {
+                    break;
+                }
+
+                long fromId = first.get().getId();
+                long toId = fromId + batchSize;
+                purged += purgeRange(fromId, toId, expireBefore, readExpireBefore, archive);
+                lastId = toId - 1;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림 보관 파일 기록 실패", e);
+        }
+        return purged;
+    }
+
+    // ID 범위 하나를 한 트랜잭션으로 처리 (보관 파일 기록이 실패하면 삭제하지 않음)
+    private int purgeRange(long fromId, long toId, LocalDateTime expireBefore, LocalDateTime readExpireBefore,
+                           ArchiveWriter archive) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Notification> candidates =
+                    notificationRepository.findPurgeCandidates(fromId, toId, expireBefore, readExpireBefore);
+            if (candidates.isEmpty()) {
+                return 0;
+            }
+
+            archive.write(candidates);
+            int count = notificationRepository.deleteByIdIn(candidates.stream().map(Notification::getId).toList());
+
+            // 읽지 않은 채 지워진 알림은 안 읽은 개수에서 차감 (커밋 후 NotificationUnreadCounter)
+            candidates.stream()
+                    .filter(notification -> !notification.isRead())
+                    .collect(Collectors.groupingBy(notification -> notification.getReceiver().getId(),
+                            Collectors.counting()))
+                    .forEach((receiverId, unread) ->
+                            eventPublisher.publishEvent(new NotificationReadEvent(receiverId, unread)));
+            return count;
+        });
+
+        int count = deleted != null ? deleted : 0;
+        purgedCounter.increment(count);
+        return count;
+    }
+
+    /**
+     * 삭제 대상 알림을 gzip NDJSON으로 기록 (archive-dir 미지정이면 아무것도 안 함)
+     * 실제로 지울 행이 있을 때만 파일을 만듭니다.
+     */
+    private class ArchiveWriter implements AutoCloseable {
+
+        private final LocalDateTime startedAt;
+        private Writer writer;
+
+        ArchiveWriter(LocalDateTime startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        void write(List<Notification> notifications) {
+            if (archiveDir == null) {
+                return;
+            }
+            try {
+                if (writer == null) {
+                    open();
+                }
+                for (Notification notification : notifications) {
+                    writer.write(objectMapper.writeValueAsString(ArchivedNotification.from(notification)));
+                    writer.write('\n');
+                }
+                // 삭제 트랜잭션 커밋 전에 파일에 반영 (GZIP sync flush)
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("알림 보관 파일 기록 실패", e);
+            }
+            archivedCounter.increment(notifications.size());
+        }
+
+        private void open() throws IOException {
+            Files.createDirectories(archiveDir);
+            Path file = archiveDir.resolve("notification-" + ARCHIVE_FILE_TIME.format(startedAt) + ".ndjson.gz");
+            writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(file), true), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * 보관 파일 한 줄 (receiver는 ID만 기록)
+     */
+    record ArchivedNotification(Long id, Long receiverId, String content, String url, boolean read,
+                                LocalDateTime createdAt) {
+
+        static ArchivedNotification from(Notification notification) {
+            return new ArchivedNotification(notification.getId(), notification.getReceiver().getId(),
+                    notification.getContent(), notification.getUrl(), notification.isRead(),
+                    notification.getCreatedAt());
+        }
+    }
+}
@@ -3,66 +3,109 @@ package com.example.backend.service;
 import com.example.backend.common.exception.CustomException;
 import com.example.backend.common.exception.ErrorCode;
 import com.example.backend.dto.NotificationResponse;
+import com.example.backend.dto.NotificationSliceResponse;
 import com.example.backend.entity.Member;
 import com.example.backend.entity.Notification;
+import com.example.backend.event.NotificationEvent;
+import com.example.backend.event.NotificationReadEvent;
 import com.example.backend.repository.NotificationRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
-    private final SseService sseService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
-     * 1. 알림 생성 및 저장
+     * 1. 알림 생성 요청
+     * 저장과 SSE 전송은 호출 트랜잭션 커밋 후 NotificationDispatcher가 비동기로 처리합니다.
+     * (느린 SSE 클라이언트나 전송 실패가 참여 신청/승인 트랜잭션에 영향을 주지 않음)
      *
      * @param receiver 알림을 받을 회원
      * @param content  알림 메시지 내용
      * @param url      클릭 시 이동할 경로
      */
     public void createNotification(Member receiver, String content, String url) {
+        eventPublisher.publishEvent(new NotificationEvent(receiver.getId(), content, url));
+    }
 
-        Notification notification = new Notification(receiver, content, url);
+    /**
+     * 2. 내 알림 목록 조회 (최신순, 키셋 페이지네이션)
+     *
+     * @param memberId 로그인한 회원의 ID
+     * @param cursor   이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size     페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
+    public NotificationSliceResponse getMyNotifications(Long memberId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1); // 다음 페이지 존재 여부 확인용 1건 추가
 
-        notificationRepository.save(notification);
+        List<Notification> rows = (cursor == null)
+                ? notificationRepository.findByReceiverIdOrderByIdDesc(memberId, limit)
+                : notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(memberId, cursor, limit);
 
-        // SSE 구현 실시간 전송 이벤트 추가S
-        sseService.send(receiver.getId(), "newNotification", content);
+        return NotificationSliceResponse.of(rows.stream().map(NotificationResponse::from).toList(), pageSize);
     }
 
     /**
-     * 2. 내 알림 목록 조회 (최신순)
+     * 3. 안 읽은 알림 개수 (헤더 배지용, 캐시된 카운터 사용)
+     * 대부분 Redis 캐시에서 끝나므로 클래스 기본 readOnly 트랜잭션을 열지 않음 (폴링마다 DB 커넥션을 잡지 않도록)
+     * 캐시가 없을 때의 COUNT 조회는 트랜잭션 없이 실행됩니다.
      *
      * @param memberId 로그인한 회원의 ID
      */
-    public List<NotificationResponse> getMyNotifications(Long memberId) {
-        return notificationRepository.findByReceiverIdOrderByCreatedAtDesc(memberId)
-                .stream()
-                .map(NotificationResponse::from)
-                .toList();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getUnreadCount(Long memberId) {
+        return unreadCounter.get(memberId);
     }
 
     /**
-     * 3. 알림 읽음 처리 (보안 로직 포함)
+     * 4. 알림 읽음 처리 (보안 로직 포함)
+     * 이미 읽은 알림이면 아무것도 바뀌지 않음 (안 읽은 개수도 그대로)
      *
      * @param notificationId 읽음 처리할 알림 ID
      * @param memberId       현재 로그인한 회원의 ID (권한 확인용)
      */
     @Transactional
     public void markAsRead(Long notificationId, Long memberId) {
-        Notification notification = getNotificationWithCheck(notificationId, memberId);
-        notification.markAsRead(); // Entity 내부의 isRead = true;
+        getNotificationWithCheck(notificationId, memberId);
+
+        if (notificationRepository.markAsReadIfUnread(notificationId) > 0) {
+            eventPublisher.publishEvent(new NotificationReadEvent(memberId, 1));
+        }
     }
 
     /**
-     * 4. 알림 삭제 (보안 로직 포함)
+     * 5. 내 알림 모두 읽음 처리 (UPDATE 한 번)
+     *
+     * @param memberId 현재 로그인한 회원의 ID
+     */
+    @Transactional
+    public void markAllAsRead(Long memberId) {
+        int updated = notificationRepository.markAllAsRead(memberId);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new NotificationReadEvent(memberId, updated));
+        }
+    }
+
+    /**
+     * 6. 알림 삭제 (보안 로직 포함)
      *
      * @param notificationId 삭제할 알림 ID
      * @param memberId       현재 로그인한 회원의 ID (권한 확인용)
@@ -70,6 +113,12 @@ public class NotificationService {
     @Transactional
     public void deleteNotification(Long notificationId, Long memberId) {
         Notification notification = getNotificationWithCheck(notificationId, memberId);
+
+        // 안 읽은 알림이었는지는 삭제 쿼리 결과로 판단 (동시에 읽음 처리된 경우 중복 차감 방지)
+        if (notificationRepository.deleteIfUnread(notificationId) > 0) {
+            eventPublisher.publishEvent(new NotificationReadEvent(memberId, 1));
+            return;
+        }
         notificationRepository.delete(notification);
     }
 
@@ -0,0 +1,121 @@
+package com.example.backend.service;
+
+import com.example.backend.event.NotificationReadEvent;
+import com.example.backend.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 안 읽은 알림 개수 캐시 (헤더 배지용)
+ *
+ * 1. 조회 시: Redis 값이 있으면 그대로 반환, 없을 때만 DB COUNT로 채움 (SET NX + TTL)
+ * 2. 알림 저장 후: NotificationDispatcher가 수신자별 저장 건수만큼 INCRBY
+ * 3. 읽음/모두 읽음/안 읽은 알림 삭제 커밋 후: 처리된 건수만큼 DECRBY (0 미만으로 내려가지 않음)
+ *
+ * 증감은 키가 있을 때만 적용합니다. 키가 없을 때 0부터 올리면 기존 안 읽은 알림이 빠진 값이 캐시되기 때문입니다.
+ * 채우는 순간과 증감이 겹치면 1~2건 어긋날 수 있는데, TTL이 지나면 DB 기준으로 다시 맞춰집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    static final String KEY_PREFIX = "NOTI:UNREAD:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /**
+     * KEYS[1] 카운터 / ARGV[1] 증가분
+     * return: 증가 후 값, 키가 없으면 -1 (다음 조회 때 DB에서 채움)
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    /**
+     * KEYS[1] 카운터 / ARGV[1] 감소분
+     * return: 감소 후 값 (음수가 되면 0으로 맞춤), 키가 없으면 -1
+     */
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local count = redis.call('DECRBY', KEYS[1], ARGV[1]) " +
+            "if count < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') return 0 end " +
+            "return count",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 안 읽은 알림 개수 (캐시가 있으면 DB 접근 없음)
+     */
+    public long get(Long memberId) {
+        String key = KEY_PREFIX + memberId;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Math.max(Long.parseLong(cached), 0);
+            }
+        } catch (DataAccessException e) {
+            log.warn("안 읽은 알림 개수 캐시 조회 실패 - DB에서 셉니다. memberId={}, 사유: {}", memberId, e.getMessage());
+            return notificationRepository.countByReceiverIdAndIsReadFalse(memberId);
+        }
+
+        long count = notificationRepository.countByReceiverIdAndIsReadFalse(memberId);
+        try {
+            // 그 사이 다른 요청이 먼저 채웠으면 그 값을 유지
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL);
+        } catch (DataAccessException e) {
+            log.warn("안 읽은 알림 개수 캐시 저장 실패 - memberId={}, 사유: {}", memberId, e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * 알림 저장 커밋 후 호출 (NotificationDispatcher)
+     * @param countsByReceiver 수신자 ID -> 이번에 저장된 알림 수
+     */
+    public void increment(Map<Long, Long> countsByReceiver) {
+        countsByReceiver.forEach((receiverId, count) -> apply(INCREMENT_SCRIPT, receiverId, count));
+    }
+
+    /**
+     * 읽음/삭제 트랜잭션이 커밋된 경우에만 차감 (롤백되면 개수 유지)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationRead(NotificationReadEvent event) {
+        if (event.getCount() > 0) {
+            apply(DECREMENT_SCRIPT, event.getReceiverId(), event.getCount());
+        }
+    }
+
+    private void apply(RedisScript<Long> script, Long receiverId, long delta) {
+        String key = KEY_PREFIX + receiverId;
+        try {
+            redisTemplate.execute(script, List.of(key), String.valueOf(delta));
+        } catch (DataAccessException e) {
+            // 반영 못 한 값이 남지 않도록 캐시를 버리고 다음 조회 때 DB에서 다시 채움
+            log.warn("안 읽은 알림 개수 갱신 실패 - receiverId={}, 사유: {}", receiverId, e.getMessage());
+            evict(key);
+        }
+    }
+
+    private void evict(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.error("안 읽은 알림 개수 캐시 삭제 실패 - TTL 만료 후 다시 맞춰집니다. key={}", key, e);
+        }
+    }
+}
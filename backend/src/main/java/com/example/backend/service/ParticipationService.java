@@ -9,11 +9,15 @@ import com.example.backend.entity.Member;
 import com.example.backend.entity.Participation;
 import com.example.backend.enums.ParticipationRole;
 import com.example.backend.enums.ParticipationStatus;
+import com.example.backend.event.MeetingChangedEvent;
 import com.example.backend.repository.MeetingPostRepository;
 import com.example.backend.repository.MemberRepository;
 import com.example.backend.repository.ParticipationRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +25,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ParticipationService {
@@ -29,6 +34,7 @@ public class ParticipationService {
     private final MeetingPostRepository meetingPostRepository; // 게시글 조회용
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long applyForMeeting(ParticipationRequestDto requestDto, Long memberId) {
@@ -44,7 +50,12 @@ public class ParticipationService {
 
         // 3. 참여 정보 생성 및 저장
         Participation participation = Participation.createApplication(member, meetingPost, requestDto.getJoinReason());
-        participationRepository.save(participation);
+        try {
+            participationRepository.save(participation);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 중복 신청이 exists 검사를 함께 통과한 경우 (유니크 인덱스가 차단)
+            throw new CustomException(ErrorCode.ALREADY_PARTICIPATED);
+        }
 
         // 3. 🔔 모임장(Host)에게 알림 생성
         notificationService.createNotification(
@@ -66,8 +77,8 @@ public class ParticipationService {
             throw new CustomException(ErrorCode.ALREADY_PARTICIPATED);
         }
 
-        long acceptedCount = participationRepository.countByMeetingPostAndStatus(meetingPost, ParticipationStatus.ACCEPTED);
-        if (acceptedCount >= meetingPost.getCapacity()) {
+        // 별도 COUNT 쿼리 대신 게시글의 현재 인원으로 판단 (최종 정원 보장은 승인 시 claimSeat이 담당)
+        if (meetingPost.isFull()) {
             throw new CustomException(ErrorCode.MEETING_FULL);
         }
     }
@@ -105,25 +116,46 @@ public class ParticipationService {
             throw new CustomException(ErrorCode.NOT_AUTHORIZED_PARTICIPATION);
         }
 
+        ParticipationStatus newStatus;
         try {
-            ParticipationStatus newStatus = ParticipationStatus.valueOf(statusStr.toUpperCase());
-            participation.updateStatus(newStatus);
-
-            if (newStatus == ParticipationStatus.ACCEPTED) {
-                MeetingPost post = participation.getMeetingPost();
-                post.addParticipant();
-                // 알림 생성 호출
-                notificationService.createNotification(
-                        participation.getMember(), // 신청자
-                        "[" + participation.getMeetingPost().getTitle() + "] 모임 참여가 승인되었습니다! 🎉",
-                        "/mypage?tab=applied"
-                );
-            }
+            newStatus = ParticipationStatus.valueOf(statusStr.toUpperCase());
         } catch (IllegalArgumentException e) {
             // 💡 잘못된 상태 값 (예: ACCEPTED인데 ACSEPTED로 보낸 경우 등)
             throw new CustomException(ErrorCode.INVALID_PARTICIPATION_STATUS);
         }
 
+        if (newStatus == ParticipationStatus.ACCEPTED) {
+            acceptParticipation(participation);
+        } else {
+            participation.updateStatus(newStatus);
+        }
+
         return participation.getId();
     }
+
+    /**
+     * 참여 승인 (락 없이 조건부 UPDATE 두 번으로 처리)
+     * 1. 신청 상태 전이: 이미 승인된 신청이면 0건 -> 좌석을 다시 잡지 않음
+     * 2. 좌석 확보: 정원이 찼으면 0건 -> 예외로 롤백되어 1번의 상태 변경도 취소됨
+     */
+    private void acceptParticipation(Participation participation) {
+        MeetingPost post = participation.getMeetingPost();
+
+        if (participationRepository.updateStatusIfChanged(participation.getId(), ParticipationStatus.ACCEPTED) == 0) {
+            return; // 중복 승인 요청 (멱등 처리)
+        }
+
+        if (meetingPostRepository.claimSeat(post.getId()) == 0) {
+            throw new CustomException(ErrorCode.MEETING_FULL);
+        }
+        participation.updateStatus(ParticipationStatus.ACCEPTED); // 영속성 컨텍스트의 엔티티도 DB와 맞춤
+        eventPublisher.publishEvent(new MeetingChangedEvent(post.getId())); // 목록의 참여 인원 변경
+
+        // 알림 생성 호출
+        notificationService.createNotification(
+                participation.getMember(), // 신청자
+                "[" + post.getTitle() + "] 모임 참여가 승인되었습니다! 🎉",
+                "/mypage?tab=applied"
+        );
+    }
 }
@@ -0,0 +1,106 @@
+package com.example.backend.service;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.entity.Category;
+import com.example.backend.entity.Region;
+import com.example.backend.repository.CategoryRepository;
+import com.example.backend.repository.RegionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리/지역 기준 데이터 캐시 (V2__insert_initial_data.sql로 들어가는 거의 바뀌지 않는 테이블)
+ *
+ * - 기동 완료 시 전체를 미리 읽어두므로 평소에는 DB를 조회하지 않습니다.
+ * - 캐시에 없는 ID만 DB에서 읽어 채우고(read-through), 없는 ID는 캐시하지 않습니다.
+ * - 카테고리 목록은 ttl이 지나면 기존 값을 내주면서 백그라운드에서 다시 읽습니다.
+ *
+ * 캐시된 엔티티는 준영속 상태로 여러 스레드가 함께 쓰므로 읽기/연관관계 지정 용도로만 사용해야 합니다.
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private static final String ALL = "all";
+
+    private final CategoryRepository categoryRepository;
+    private final RegionRepository regionRepository;
+
+    private final Cache<Long, Category> categories;
+    private final Cache<Long, Region> regions;
+    private final LoadingCache<String, CategoryList> categoryList;
+
+    public ReferenceDataCache(CategoryRepository categoryRepository,
+                              RegionRepository regionRepository,
+                              @Value("${reference.cache.ttl:PT1H}") Duration ttl) {
+        this.categoryRepository = categoryRepository;
+        this.regionRepository = regionRepository;
+        this.categories = Caffeine.newBuilder().expireAfterWrite(ttl).build();
+        this.regions = Caffeine.newBuilder().expireAfterWrite(ttl).build();
+        this.categoryList = Caffeine.newBuilder().refreshAfterWrite(ttl).build(key -> loadCategoryList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        CategoryList list = categoryList.get(ALL);
+        regionRepository.findAll().forEach(region -> regions.put(region.getId(), region));
+        log.info("기준 데이터 캐시 준비 완료 - 카테고리 {}건, 지역 {}건",
+                list.categories().size(), regions.estimatedSize());
+    }
+
+    /**
+     * 카테고리 전체 목록 (+ 응답용 ETag)
+     */
+    public CategoryList getCategories() {
+        return categoryList.get(ALL);
+    }
+
+    public Category getCategory(Long categoryId) {
+        Category category = categories.get(categoryId,
+                id -> categoryRepository.findById(id).orElse(null));
+        if (category == null) {
+            throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+        return category;
+    }
+
+    public Region getRegion(Long regionId) {
+        Region region = regions.get(regionId,
+                id -> regionRepository.findById(id).orElse(null));
+        if (region == null) {
+            throw new CustomException(ErrorCode.REGION_NOT_FOUND);
+        }
+        return region;
+    }
+
+    private CategoryList loadCategoryList() {
+        List<Category> all = categoryRepository.findAll().stream()
+                .sorted(Comparator.comparing(Category::getId))
+                .toList();
+        all.forEach(category -> categories.put(category.getId(), category));
+
+        // 목록 내용이 같으면 인스턴스가 달라도 같은 ETag
+        String content = all.stream()
+                .map(category -> category.getId() + ":" + category.getName())
+                .collect(Collectors.joining("\n"));
+        String etag = "\"" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)) + "\"";
+        return new CategoryList(all, etag);
+    }
+
+    public record CategoryList(List<Category> categories, String etag) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.SseMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SSE 재전송(replay)용 사용자별 최근 이벤트 버퍼 (Redis LIST 링 버퍼)
+ *
+ * 1. 전송 시: 전역 시퀀스로 이벤트 ID 발급 + 사용자 버퍼 앞에 추가 + 최근 BUFFER_SIZE 건만 유지 (Lua 1회)
+ * 2. 재연결 시: Last-Event-ID 이후 이벤트만 버퍼에서 꺼내 재전송 (DB 조회 없음)
+ *
+ * 재연결이 다른 인스턴스로 붙어도 이어받을 수 있도록 로컬 메모리가 아닌 Redis에 둡니다.
+ * 시퀀스는 사용자별이 아닌 전역 키 하나라 만료되어 ID가 되돌아가는 일이 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventBuffer {
+
+    private static final String SEQUENCE_KEY = "SSE:SEQ";      // 전역 이벤트 ID 시퀀스
+    private static final String BUFFER_PREFIX = "SSE:BUF:";    // 사용자별 최근 이벤트 ("id|json", 최신이 앞)
+    private static final String SEPARATOR = "|";
+
+    static final int BUFFER_SIZE = 50;
+    private static final Duration BUFFER_TTL = Duration.ofHours(1); // Emitter 타임아웃과 동일
+
+    /**
+     * KEYS[1] 시퀀스, KEYS[2] 사용자 버퍼
+     * ARGV[1] 이벤트 JSON, ARGV[2] 버퍼 크기, ARGV[3] 버퍼 TTL(초)
+     * return: 발급된 이벤트 ID
+     */
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "local id = redis.call('INCR', KEYS[1]) " +
+            "redis.call('LPUSH', KEYS[2], id .. '|' .. ARGV[1]) " +
+            "redis.call('LTRIM', KEYS[2], 0, tonumber(ARGV[2]) - 1) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "return id",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트를 버퍼에 기록하고 ID 발급
+     * @return 이벤트 ID (Redis 장애 시 null -> ID 없이 전송, 재전송 대상에서만 빠짐)
+     */
+    public Long append(Long memberId, String eventName, Object data) {
+        try {
+            String json = objectMapper.writeValueAsString(new SseMessage(null, null, memberId, eventName, data));
+            return redisTemplate.execute(
+                    APPEND_SCRIPT,
+                    List.of(SEQUENCE_KEY, BUFFER_PREFIX + memberId),
+                    json, String.valueOf(BUFFER_SIZE), String.valueOf(BUFFER_TTL.toSeconds()));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("SSE 이벤트 버퍼 기록 실패 - 재전송 대상에서 제외됩니다. memberId={}", memberId, e);
+            return null;
+        }
+    }
+
+    /**
+     * lastEventId 이후의 이벤트를 오래된 순서로 반환
+     */
+    public Replay readAfter(Long memberId, long lastEventId) {
+        List<String> entries;
+        try {
+            entries = redisTemplate.opsForList().range(BUFFER_PREFIX + memberId, 0, -1);
+        } catch (DataAccessException e) {
+            log.warn("SSE 이벤트 버퍼 조회 실패: memberId={}", memberId, e);
+            return new Replay(List.of(), false);
+        }
+        if (entries == null || entries.isEmpty()) {
+            return new Replay(List.of(), false);
+        }
+
+        List<SseMessage> missed = new ArrayList<>();
+        for (String entry : entries) { // 최신 -> 과거 순
+            SseMessage message = parse(entry);
+            if (message == null) {
+                continue;
+            }
+            if (message.getEventId() <= lastEventId) {
+                break;
+            }
+            missed.add(message);
+        }
+        Collections.reverse(missed);
+
+        // 버퍼가 꽉 찼는데 가장 오래된 것까지 놓친 경우 -> 버퍼 밖으로 밀려난 이벤트가 있을 수 있음
+        boolean truncated = entries.size() >= BUFFER_SIZE && missed.size() == entries.size();
+        return new Replay(missed, truncated);
+    }
+
+    private SseMessage parse(String entry) {
+        int separator = entry.indexOf(SEPARATOR);
+        try {
+            SseMessage stored = objectMapper.readValue(entry.substring(separator + 1), SseMessage.class);
+            return new SseMessage(null, Long.parseLong(entry.substring(0, separator)),
+                    stored.getMemberId(), stored.getEventName(), stored.getData());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("손상된 SSE 버퍼 항목을 건너뜁니다: {}", entry);
+            return null;
+        }
+    }
+
+    /**
+     * @param events    재전송할 이벤트 (오래된 순)
+     * @param truncated 버퍼 크기를 넘어 일부 이벤트가 유실되었을 가능성 (클라이언트는 목록을 다시 조회)
+     */
+    public record Replay(List<SseMessage> events, boolean truncated) {
+    }
+}
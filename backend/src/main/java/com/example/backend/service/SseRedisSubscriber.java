@@ -0,0 +1,37 @@
+package com.example.backend.service;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.dto.SseMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * SseService.CHANNEL 구독자
+ * 다른 인스턴스가 발행한 알림을 받아, 이 인스턴스에 연결된 사용자에게 전달합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseRedisSubscriber implements MessageListener {
+
+    private final SseService sseService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SseMessage sseMessage = objectMapper.readValue(message.getBody(), SseMessage.class);
+            sseService.handleRelayed(sseMessage);
+        } catch (IOException e) {
+            log.error("SSE 중계 메시지 해석 실패", e);
+        } catch (CustomException e) {
+            log.warn("SSE 중계 메시지 전달 실패: {}", e.getMessage());
+        }
+    }
+}
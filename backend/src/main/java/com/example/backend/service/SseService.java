@@ -2,75 +2,341 @@ package com.example.backend.service;
 
 import com.example.backend.common.exception.CustomException;
 import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.dto.SseMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @Slf4j
-public class SseService {
-    // 유저별 Emitter 관리 (Thread-safe)
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+public class SseService implements MeterBinder {
+    // 인스턴스 간 이벤트 중계 채널 (SseRedisSubscriber가 구독)
+    public static final String CHANNEL = "sse:events";
+
+    // 유저별 연결 목록 관리 (여러 기기 동시 접속)
+    // 목록은 불변 리스트로 통째 교체 -> 전송 시 락 없이 스냅샷을 읽고, 변경은 compute 안에서만 (I/O 없음)
+    private final Map<Long, List<Connection>> emitters = new ConcurrentHashMap<>();
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // 1시간
 
+    // 하트비트: 5초마다 전체 연결의 1/6씩 -> 연결당 30초 간격 (nginx 기본 proxy_read_timeout 60초보다 짧게)
+    // 한 번에 모든 연결에 쓰지 않고 나눠서 보내 주기마다 몰리는 쓰기 폭주를 피함
+    static final int HEARTBEAT_SLICES = 6;
+    private final AtomicLong heartbeatTick = new AtomicLong();
+    private final AtomicLong reapedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong sendFailedCount = new AtomicLong();
+    private final AtomicLong relayedCount = new AtomicLong();
+    private final AtomicLong relayFailedCount = new AtomicLong();
+
+    // 이 인스턴스 식별자 (자기가 발행한 메시지 무시용)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseEventBuffer eventBuffer;
+    private final Executor fanoutExecutor;
+    private final int maxConnectionsPerMember;
+
+    public SseService(StringRedisTemplate redisTemplate,
+                      ObjectMapper objectMapper,
+                      SseEventBuffer eventBuffer,
+                      @Qualifier("sseFanoutExecutor") Executor fanoutExecutor,
+                      @Value("${sse.max-connections-per-member:5}") int maxConnectionsPerMember) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.eventBuffer = eventBuffer;
+        this.fanoutExecutor = fanoutExecutor;
+        this.maxConnectionsPerMember = maxConnectionsPerMember;
+    }
+
     public SseEmitter subscribe(Long memberId) {
-        // 1. 기존 연결이 있으면 종료 (중복 연결 및 메모리 누수 방지)
-        if (emitters.containsKey(memberId)) {
-            log.info("기존 SSE 연결을 종료합니다. memberId: {}", memberId);
-            emitters.get(memberId).complete();
-            emitters.remove(memberId);
-        }
+        return subscribe(memberId, null);
+    }
 
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitters.put(memberId, emitter);
+    /**
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 이벤트 ID (Last-Event-ID), 최초 연결이면 null
+     */
+    @Timed(value = "service.method", histogram = true)
+    public SseEmitter subscribe(Long memberId, String lastEventId) {
+        Connection connection = new Connection(UUID.randomUUID().toString(), new SseEmitter(DEFAULT_TIMEOUT));
+        SseEmitter emitter = connection.emitter();
 
-        // 2. 생명주기 리스너 등록
+        // 1. 연결 추가 (최대 개수를 넘으면 가장 오래된 연결부터 밀어냄 -> 재연결 루프 없이 새 기기 우선)
+        List<Connection> evicted = new ArrayList<>();
+        emitters.compute(memberId, (id, connections) -> {
+            List<Connection> updated = (connections == null) ? new ArrayList<>() : new ArrayList<>(connections);
+            updated.add(connection);
+            while (updated.size() > maxConnectionsPerMember) {
+                evicted.add(updated.remove(0));
+            }
+            return List.copyOf(updated);
+        });
+        for (Connection old : evicted) {
+            log.info("연결 수 제한으로 가장 오래된 SSE 연결을 종료합니다. memberId: {}", memberId);
+            old.emitter().complete();
+        }
+
+        // 2. 생명주기 리스너 등록 (이 연결만 제거, 같은 회원의 다른 기기 연결은 유지)
         emitter.onCompletion(() -> {
             log.info("SSE 연결이 완료되었습니다. memberId: {}", memberId);
-            emitters.remove(memberId);
+            remove(memberId, connection);
         });
         emitter.onTimeout(() -> {
             log.info("SSE 연결 시간이 초과되었습니다. memberId: {}", memberId);
-            emitters.remove(memberId);
+            remove(memberId, connection);
         });
         emitter.onError((e) -> {
             log.error("SSE 연결 중 오류가 발생했습니다. memberId: {}", memberId, e);
-            emitters.remove(memberId);
+            remove(memberId, connection);
         });
 
-        // 3. 503 에러 방지용 더미 데이터 전송
-        send(memberId, "connect", "Connected [userId=" + memberId + "]");
+        // 3. 503 에러 방지용 더미 데이터 전송 (새 연결에만, 중계 불필요)
+        if (!sendTo(memberId, connection, null, "connect", "Connected [userId=" + memberId + "]")) {
+            throw new CustomException(ErrorCode.SSE_SEND_ERROR);
+        }
+
+        // 4. 끊겨 있던 동안 놓친 이벤트 재전송 (새 연결에만 / 연결 등록 후 조회하므로 중간에 온 이벤트는 중복될 수 있음 -> 클라이언트가 ID로 무시)
+        Long lastId = parseEventId(lastEventId);
+        if (lastId != null) {
+            replay(memberId, connection, lastId);
+        }
 
         return emitter;
     }
 
-    public void send(Long memberId, String eventName, Object data) {
-        SseEmitter emitter = emitters.get(memberId);
+    private void replay(Long memberId, Connection connection, long lastEventId) {
+        SseEventBuffer.Replay replay = eventBuffer.readAfter(memberId, lastEventId);
+        for (SseMessage missed : replay.events()) {
+            sendTo(memberId, connection, missed.getEventId(), missed.getEventName(), missed.getData());
+        }
+        if (replay.truncated()) {
+            // 버퍼보다 많이 놓친 경우: 클라이언트가 알림 목록을 다시 조회하도록 안내
+            sendTo(memberId, connection, null, "resync", "missed events exceeded replay buffer");
+        }
+        log.info("SSE 재전송: memberId={}, lastEventId={}, count={}", memberId, lastEventId, replay.events().size());
+    }
 
-        if (emitter == null) {
-            // 접속 중이 아닌 사용자에게 알림을 보내려 할 때 (선택 사항: 예외를 던지거나 로그만 남김)
-            log.warn("알림 전송 실패: 연결된 사용자가 없습니다. memberId={}", memberId);
-            return;
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
         }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 Last-Event-ID 형식이라 재전송하지 않습니다: {}", lastEventId);
+            return null;
+        }
+    }
 
+    /**
+     * 알림 전송
+     * 0. 재전송 버퍼에 기록하며 이벤트 ID 발급 (연결이 없어도 기록 -> 재연결 시 전달)
+     * 1. 이 인스턴스에 연결이 있으면 바로 전송 (zero-hop)
+     * 2. 로컬 전송 여부와 상관없이 Redis 채널에 발행 -> 다른 인스턴스에 연결된 기기도 전송
+     *    (한 회원의 기기들이 여러 인스턴스에 나뉘어 연결될 수 있음 / 내가 발행한 메시지는 handleRelayed에서 무시)
+     */
+    @Timed(value = "service.method", histogram = true)
+    public void send(Long memberId, String eventName, Object data) {
+        Long eventId = eventBuffer.append(memberId, eventName, data);
         try {
-            log.info("✅ 전송 시도: memberId={}, data={}", memberId, data);
-            emitter.send(SseEmitter.event()
-                    .name(eventName)
-                    .data(data));
-        } catch (IOException e) {
-            emitters.remove(memberId);
+            deliverLocally(memberId, eventId, eventName, data);
+        } catch (CustomException e) {
+            // 로컬 연결이 모두 끊겨 있어도 다른 인스턴스의 기기에는 전달되도록 발행은 계속
+            log.warn("로컬 SSE 전송 실패, 중계만 진행: memberId={}", memberId);
+        }
+        publish(memberId, eventId, eventName, data);
+    }
+
+    /**
+     * 이 인스턴스에 연결된 해당 회원의 모든 연결(기기)로 전송
+     * 연결이 여러 개면 전송 풀에서 동시에 보내며, 스냅샷을 읽으므로 락을 잡은 채 I/O 하지 않습니다.
+     * @return 로컬 연결이 있어 전송했으면 true
+     */
+    public boolean deliverLocally(Long memberId, Long eventId, String eventName, Object data) {
+        List<Connection> connections = emitters.get(memberId);
+
+        if (connections == null || connections.isEmpty()) {
+            return false;
+        }
+
+        log.info("✅ 전송 시도: memberId={}, connections={}, data={}", memberId, connections.size(), data);
+        boolean delivered;
+        if (connections.size() == 1) {
+            delivered = sendTo(memberId, connections.get(0), eventId, eventName, data);
+        } else {
+            List<CompletableFuture<Boolean>> sends = connections.stream()
+                    .map(connection -> CompletableFuture.supplyAsync(
+                            () -> sendTo(memberId, connection, eventId, eventName, data), fanoutExecutor))
+                    .toList();
+            delivered = sends.stream().map(CompletableFuture::join).reduce(false, Boolean::logicalOr);
+        }
+
+        if (!delivered) {
             // 여기서 커스텀 예외를 던져서 GlobalExceptionHandler가 잡게 할 수 있습니다.
-            log.error("❌ 전송 중 에러 발생으로 Emitter 제거: {}", memberId);
+            log.error("❌ 모든 연결 전송 실패로 Emitter 제거: {}", memberId);
             throw new CustomException(ErrorCode.SSE_SEND_ERROR);
         }
+        return true;
+    }
+
+    /**
+     * 연결 하나에 전송 (실패한 연결은 목록에서 제거)
+     * @return 전송 성공 여부
+     */
+    boolean sendTo(Long memberId, Connection connection, Long eventId, String eventName, Object data) {
+        try {
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name(eventName)
+                    .data(data);
+            if (eventId != null) {
+                event.id(String.valueOf(eventId));
+            }
+            connection.emitter().send(event);
+            sentCount.incrementAndGet();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            sendFailedCount.incrementAndGet();
+            remove(memberId, connection);
+            log.warn("SSE 연결 전송 실패로 제거: memberId={}, connectionId={}", memberId, connection.id());
+            return false;
+        }
     }
 
+    /**
+     * 다른 인스턴스에서 발행된 메시지 처리 (SseRedisSubscriber에서 호출)
+     */
+    @Timed(value = "service.method", histogram = true)
+    public void handleRelayed(SseMessage message) {
+        if (nodeId.equals(message.getOrigin())) {
+            return; // 내가 발행한 메시지 (로컬 연결에는 send에서 이미 전송함)
+        }
+        if (!deliverLocally(message.getMemberId(), message.getEventId(), message.getEventName(), message.getData())) {
+            log.debug("중계 메시지 무시: 이 인스턴스에 연결된 사용자가 아닙니다. memberId={}", message.getMemberId());
+        }
+    }
+
+    private void publish(Long memberId, Long eventId, String eventName, Object data) {
+        try {
+            String payload = objectMapper.writeValueAsString(new SseMessage(nodeId, eventId, memberId, eventName, data));
+            redisTemplate.convertAndSend(CHANNEL, payload);
+            relayedCount.incrementAndGet();
+        } catch (JsonProcessingException | DataAccessException e) {
+            relayFailedCount.incrementAndGet();
+            log.error("SSE 중계 메시지 발행 실패: memberId={}", memberId, e);
+        }
+    }
+
+    /**
+     * @return 실제로 목록에서 제거했으면 true (이미 제거된 연결이면 false)
+     */
+    private boolean remove(Long memberId, Connection connection) {
+        boolean[] removed = {false};
+        emitters.computeIfPresent(memberId, (id, connections) -> {
+            if (!connections.contains(connection)) {
+                return connections;
+            }
+            removed[0] = true;
+            List<Connection> updated = connections.stream().filter(c -> c != connection).toList();
+            return updated.isEmpty() ? null : updated;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 하트비트 및 끊긴 연결 정리
+     * SSE 주석 프레임(": ping")은 클라이언트 이벤트로 전달되지 않으며,
+     * 쓰기에 실패한 연결(half-open)은 실제 알림 전송 전에 미리 제거해 Tomcat 비동기 컨텍스트를 반환합니다.
+     */
+    @Timed(value = "service.method", histogram = true)
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval:PT5S}")
+    public void sendHeartbeat() {
+        long slice = heartbeatTick.getAndIncrement() % HEARTBEAT_SLICES;
+        int reaped = 0;
+
+        for (Map.Entry<Long, List<Connection>> entry : emitters.entrySet()) {
+            if (Math.floorMod(entry.getKey(), HEARTBEAT_SLICES) != slice) {
+                continue;
+            }
+            for (Connection connection : entry.getValue()) {
+                try {
+                    connection.emitter().send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    // 다른 경로(전송 실패, 콜백)에서 이미 제거된 연결은 중복 집계하지 않음
+                    if (remove(entry.getKey(), connection)) {
+                        connection.emitter().completeWithError(e);
+                        reaped++;
+                    }
+                }
+            }
+        }
+
+        if (reaped > 0) {
+            reapedCount.addAndGet(reaped);
+            log.info("SSE 끊긴 연결 정리: {}건 (남은 연결 {}건)", reaped, getEmittersSize());
+        }
+    }
+
+    /**
+     * @return 이 인스턴스의 전체 SSE 연결 수 (회원 수가 아닌 기기 연결 수)
+     */
     public int getEmittersSize() {
-        return emitters.size();
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Micrometer 지표 등록 (MeterBinder 빈은 스프링 부트가 자동으로 바인딩)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.emitters.active", this, SseService::getEmittersSize)
+                .description("이 인스턴스에 연결된 SSE Emitter 수")
+                .register(registry);
+        FunctionCounter.builder("sse.emitters.reaped", reapedCount, AtomicLong::get)
+                .description("하트비트 실패로 정리된 SSE Emitter 누적 수")
+                .register(registry);
+        FunctionCounter.builder("sse.sends", sentCount, AtomicLong::get)
+                .description("연결별 SSE 이벤트 전송 수")
+                .tag("result", "success")
+                .register(registry);
+        FunctionCounter.builder("sse.sends", sendFailedCount, AtomicLong::get)
+                .description("연결별 SSE 이벤트 전송 수")
+                .tag("result", "failure")
+                .register(registry);
+        FunctionCounter.builder("sse.relay.published", relayedCount, AtomicLong::get)
+                .description("다른 인스턴스로 중계하려고 Redis에 발행한 메시지 수")
+                .tag("result", "success")
+                .register(registry);
+        FunctionCounter.builder("sse.relay.published", relayFailedCount, AtomicLong::get)
+                .description("다른 인스턴스로 중계하려고 Redis에 발행한 메시지 수")
+                .tag("result", "failure")
+                .register(registry);
+    }
+
+    /**
+     * 기기 하나의 SSE 연결 (connectionId로 구분)
+     */
+    record Connection(String id, SseEmitter emitter) {
     }
 }
@@ -0,0 +1,188 @@
+package com.example.backend.service;
+
+import com.example.backend.common.redis.RedisLock;
+import com.example.backend.entity.ViewCountFlush;
+import com.example.backend.repository.MeetingPostRepository;
+import com.example.backend.repository.ViewCountFlushRepository;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 조회수 Write-Behind 관리
+ *
+ * 1. 상세 조회 시: Redis SET으로 조회자 중복을 거르고, 처음 본 경우에만 HINCRBY로 누적 (DB 접근 없음)
+ * 2. 주기적으로: 누적된 증가분을 게시글별 UPDATE 한 번으로 meeting_post.view_count에 반영
+ *
+ * 기존 postView 쿠키([1][2][15]...)는 본 글이 늘어날수록 길어지므로,
+ * 비로그인 사용자는 고정 길이 viewerId 쿠키로 식별합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountManager {
+
+    private static final String VIEWERS_PREFIX = "VIEW:VIEWERS:";   // 게시글별 조회자 SET
+    private static final String PENDING_KEY = "VIEW:PENDING";       // 아직 DB에 반영 안 된 증가분 (postId -> count)
+    private static final String FLUSHING_KEY = "VIEW:FLUSHING";     // 반영 중인 증가분 (실패 시 다음 주기에 재시도)
+    private static final String FLUSH_LOCK_KEY = "VIEW:FLUSH_LOCK"; // 여러 인스턴스 동시 flush 방지
+    private static final String RUN_ID_FIELD = "run";               // FLUSHING 묶음 ID (게시글 ID와 겹치지 않는 필드명)
+
+    private static final String VIEWER_COOKIE = "viewerId";
+    private static final Duration DEDUP_WINDOW = Duration.ofHours(24);
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration FLUSH_HISTORY_RETENTION = Duration.ofDays(1);
+
+    /**
+     * KEYS[1] 조회자 SET, KEYS[2] PENDING, KEYS[3] FLUSHING
+     * ARGV[1] 조회자 ID, ARGV[2] 중복 방지 기간(초), ARGV[3] 게시글 ID
+     * return: 아직 DB에 반영되지 않은 해당 게시글의 조회수 증가분
+     */
+    private static final RedisScript<Long> RECORD_VIEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SADD', KEYS[1], ARGV[1]) == 1 then " +
+            "  if redis.call('TTL', KEYS[1]) == -1 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "  redis.call('HINCRBY', KEYS[2], ARGV[3], 1) " +
+            "end " +
+            "local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[3]) or '0') " +
+            "local flushing = tonumber(redis.call('HGET', KEYS[3], ARGV[3]) or '0') " +
+            "return pending + flushing",
+            Long.class);
+
+    /**
+     * KEYS[1] PENDING, KEYS[2] FLUSHING
+     * ARGV[1] 새 묶음 ID
+     * FLUSHING이 없으면 PENDING을 RENAME하고 묶음 ID를 붙임 (이전 주기에 남은 FLUSHING이면 그 ID를 그대로 사용)
+     * return: 반영할 묶음 ID (반영할 증가분이 없으면 nil)
+     */
+    private static final RedisScript<String> PREPARE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "end " +
+            "local runId = redis.call('HGET', KEYS[2], '" + RUN_ID_FIELD + "') " +
+            "if not runId then " +
+            "  runId = ARGV[1] " +
+            "  redis.call('HSET', KEYS[2], '" + RUN_ID_FIELD + "', runId) " +
+            "end " +
+            "return runId",
+            String.class);
+
+    /**
+     * KEYS[1] FLUSHING, ARGV[1] 반영을 마친 묶음 ID
+     * 락 TTL이 지나 다른 인스턴스가 이미 다음 묶음을 만들었다면 지우지 않음
+     */
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], '" + RUN_ID_FIELD + "') == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeetingPostRepository meetingPostRepository;
+    private final ViewCountFlushRepository viewCountFlushRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 조회 기록 (24시간 내 같은 조회자는 1회만 집계)
+     *
+     * @param memberId 로그인 사용자 ID (비로그인이면 null -> viewerId 쿠키 사용)
+     * @return DB에 아직 반영되지 않은 조회수 증가분 (응답 조회수 보정용)
+     */
+    public long recordView(Long postId, Long memberId, HttpServletRequest request, HttpServletResponse response) {
+        String viewerId = (memberId != null) ? "m:" + memberId : "g:" + resolveGuestId(request, response);
+
+        try {
+            Long pending = redisTemplate.execute(
+                    RECORD_VIEW_SCRIPT,
+                    List.of(VIEWERS_PREFIX + postId, PENDING_KEY, FLUSHING_KEY),
+                    viewerId, String.valueOf(DEDUP_WINDOW.toSeconds()), String.valueOf(postId));
+            return pending != null ? pending : 0L;
+        } catch (DataAccessException e) {
+            // 조회수 집계 실패로 상세 조회 자체가 실패하면 안 되므로 로그만 남김
+            log.warn("조회수 집계 실패 - postId: {}, 사유: {}", postId, e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 누적된 조회수를 DB에 일괄 반영
+     * PENDING을 FLUSHING으로 RENAME(원자적)한 뒤 반영하므로, 그 사이 들어온 조회는 새 PENDING에 쌓입니다.
+     * FLUSHING 묶음마다 ID를 붙여 DB 반영 기록(view_count_flush)과 같은 트랜잭션으로 남기므로,
+     * DB 커밋 후 FLUSHING 삭제가 실패해 같은 묶음을 다시 읽어도 두 번 더하지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush-interval:PT30S}")
+    public void flush() {
+        RedisLock lock = RedisLock.tryAcquire(redisTemplate, FLUSH_LOCK_KEY, FLUSH_LOCK_TTL);
+        if (lock == null) {
+            return;
+        }
+
+        try {
+            // 이전 주기에 DB 반영이 실패해 FLUSHING이 남아있다면 그것부터 처리
+            String runId = redisTemplate.execute(
+                    PREPARE_FLUSH_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY), UUID.randomUUID().toString());
+            if (runId == null) {
+                return;
+            }
+
+            Map<Object, Object> counts = new HashMap<>(redisTemplate.opsForHash().entries(FLUSHING_KEY));
+            counts.remove(RUN_ID_FIELD);
+
+            // 게시글별 UPDATE와 반영 기록을 하나의 트랜잭션으로 (전부 성공해야 FLUSHING 삭제)
+            transactionTemplate.executeWithoutResult(status -> {
+                if (viewCountFlushRepository.existsById(runId)) {
+                    log.info("이미 반영된 조회수 묶음 - runId: {}", runId);
+                    return;
+                }
+                counts.forEach((postId, delta) -> meetingPostRepository.addViewCount(
+                        Long.valueOf(postId.toString()), Integer.parseInt(delta.toString())));
+                viewCountFlushRepository.save(new ViewCountFlush(runId));
+                viewCountFlushRepository.deleteAppliedBefore(LocalDateTime.now().minus(FLUSH_HISTORY_RETENTION));
+            });
+
+            redisTemplate.execute(COMPLETE_FLUSH_SCRIPT, List.of(FLUSHING_KEY), runId);
+            log.info("조회수 반영 완료 - 게시글 {}건", counts.size());
+        } catch (RuntimeException e) {
+            log.error("조회수 반영 실패 - 다음 주기에 재시도합니다.", e);
+        } finally {
+            lock.release();
+        }
+    }
+
+    // 비로그인 사용자 식별용 쿠키 (없으면 새로 발급) - ViewCookieBenchmark에서 직접 호출
+    String resolveGuestId(HttpServletRequest request, HttpServletResponse response) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (cookie.getName().equals(VIEWER_COOKIE) && cookie.getValue().length() <= 36) {
+                    return cookie.getValue();
+                }
+            }
+        }
+
+        String guestId = UUID.randomUUID().toString();
+        Cookie newCookie = new Cookie(VIEWER_COOKIE, guestId);
+        newCookie.setPath("/");
+        newCookie.setHttpOnly(true);
+        newCookie.setMaxAge(60 * 60 * 24 * 365); // 1년 유지 (값 길이는 고정)
+        response.addCookie(newCookie);
+        return guestId;
+    }
+}
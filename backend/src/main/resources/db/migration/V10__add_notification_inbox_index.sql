@@ -0,0 +1,8 @@
+-- 알림 목록 키셋 페이지네이션 (findByReceiverIdOrderByIdDesc, findByReceiverIdAndIdLessThanOrderByIdDesc)
+-- WHERE receiver_id = ? AND id < ? ORDER BY id DESC LIMIT ? 를 인덱스 범위 스캔만으로 처리 (filesort 없음)
+-- V9에서 다른 receiver_id 선두 인덱스가 생기면서 FK 자동 인덱스가 제거될 수 있으므로 id를 명시해서 만듦
+CREATE INDEX idx_notification_receiver_id ON notification (receiver_id, id);
+
+-- 최신순 전체 조회(findByReceiverIdOrderByCreatedAtDesc)가 위 페이지 조회로 바뀌어 더 이상 쓰이지 않음
+-- (FK는 idx_notification_receiver_id가 대신 사용)
+DROP INDEX idx_notification_receiver_created_at ON notification;
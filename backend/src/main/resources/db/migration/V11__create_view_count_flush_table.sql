@@ -0,0 +1,9 @@
+-- 조회수 일괄 반영(ViewCountManager.flush) 기록
+-- DB 커밋 후 Redis의 VIEW:FLUSHING 삭제가 실패하면 다음 주기에 같은 묶음을 다시 읽게 되므로,
+-- 묶음마다 붙인 run_id를 같은 트랜잭션에서 남겨 두 번 더해지지 않게 함 (오래된 기록은 flush 때 정리)
+CREATE TABLE view_count_flush (
+    run_id VARCHAR(36) PRIMARY KEY,
+    applied_at DATETIME(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE INDEX idx_view_count_flush_applied_at ON view_count_flush (applied_at);
@@ -0,0 +1,12 @@
+-- 모임 목록 키셋 페이지네이션용 (정렬 키, id) 복합 인덱스
+-- WHERE (key, id) > (:key, :id) ORDER BY key, id LIMIT n 이 인덱스 range scan 으로 끝나도록 구성
+
+-- 1. 전체 목록 (카테고리 필터 없음)
+CREATE INDEX idx_meeting_post_created_at_id ON meeting_post (created_at, id);
+CREATE INDEX idx_meeting_post_start_date_id ON meeting_post (start_date, id);
+CREATE INDEX idx_meeting_post_view_count_id ON meeting_post (view_count, id);
+
+-- 2. 카테고리 필터 목록 (등치 조건 컬럼을 선두에 배치)
+CREATE INDEX idx_meeting_post_category_created_at_id ON meeting_post (category_id, created_at, id);
+CREATE INDEX idx_meeting_post_category_start_date_id ON meeting_post (category_id, start_date, id);
+CREATE INDEX idx_meeting_post_category_view_count_id ON meeting_post (category_id, view_count, id);
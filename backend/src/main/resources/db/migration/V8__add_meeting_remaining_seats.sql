@@ -0,0 +1,11 @@
+-- 잔여석 적은 순(URGENT) 정렬용 저장 생성 컬럼
+-- ORDER BY (capacity - current_participants) 는 인덱스를 탈 수 없어 매번 full scan + filesort 가 발생하므로
+-- 값을 컬럼으로 저장하고 (정렬 키, id) 인덱스를 추가합니다. (V7 인덱스와 같은 구성)
+ALTER TABLE meeting_post
+    ADD COLUMN remaining_seats INT AS (capacity - current_participants) STORED;
+
+-- 1. 전체 목록 (카테고리 필터 없음)
+CREATE INDEX idx_meeting_post_remaining_seats_id ON meeting_post (remaining_seats, id);
+
+-- 2. 카테고리 필터 목록 (등치 조건 컬럼을 선두에 배치)
+CREATE INDEX idx_meeting_post_category_remaining_seats_id ON meeting_post (category_id, remaining_seats, id);
@@ -0,0 +1,55 @@
+-- 자주 호출되는 조회용 보조 인덱스 (FK 인덱스만으로는 정렬/추가 조건을 처리하지 못해 filesort 또는 넓은 범위 스캔 발생)
+-- 모임 목록 정렬(created_at/start_date/view_count/remaining_seats)용 인덱스는 V7, V8 참고
+
+-- 1. 참여 (participation)
+-- 같은 회원이 같은 모임에 중복 신청한 행 정리 (유니크 인덱스 생성 전)
+-- 가장 진행된 상태의 행 하나만 남김: ACCEPTED > APPLIED > WAITING > REJECTED > CANCELLED, 같은 상태면 먼저 만든 행
+-- 지울 행과 그 모임을 먼저 기록해 두고, 지운 뒤 해당 모임의 current_participants를 ACCEPTED 행 수로 다시 계산
+-- (개설자도 ACCEPTED 참여 행으로 들어가므로 current_participants = ACCEPTED 행 수, remaining_seats는 생성 컬럼이라 함께 맞춰짐)
+CREATE TABLE participation_duplicate_v9 AS
+SELECT ranked.id, ranked.meeting_post_id
+FROM (SELECT id,
+             meeting_post_id,
+             ROW_NUMBER() OVER (
+                 PARTITION BY member_id, meeting_post_id
+                 ORDER BY CASE status
+                              WHEN 'ACCEPTED' THEN 0
+                              WHEN 'APPLIED' THEN 1
+                              WHEN 'WAITING' THEN 2
+                              WHEN 'REJECTED' THEN 3
+                              ELSE 4
+                          END, id) AS rank_in_pair
+      FROM participation) ranked
+WHERE ranked.rank_in_pair > 1;
+
+DELETE p FROM participation p
+    JOIN participation_duplicate_v9 d ON d.id = p.id;
+
+UPDATE meeting_post m
+    JOIN (SELECT DISTINCT meeting_post_id FROM participation_duplicate_v9) affected
+      ON affected.meeting_post_id = m.id
+    LEFT JOIN (SELECT meeting_post_id, COUNT(*) AS accepted
+               FROM participation
+               WHERE status = 'ACCEPTED'
+               GROUP BY meeting_post_id) counted
+      ON counted.meeting_post_id = m.id
+SET m.current_participants = COALESCE(counted.accepted, 0);
+
+DROP TABLE participation_duplicate_v9;
+
+-- existsByMemberIdAndMeetingPostId, findAllAppliedByMemberId (중복 신청을 DB에서도 차단)
+CREATE UNIQUE INDEX uk_participation_member_post ON participation (member_id, meeting_post_id);
+
+-- countByMeetingPostAndStatus, findAllByMeetingPostId
+CREATE INDEX idx_participation_post_status ON participation (meeting_post_id, status);
+
+-- 2. 알림 (notification)
+-- countByReceiverIdAndIsReadFalse, existsByReceiverIdAndIsReadFalse
+CREATE INDEX idx_notification_receiver_read_created_at ON notification (receiver_id, is_read, created_at);
+
+-- findByReceiverIdOrderByCreatedAtDesc (읽음 여부와 상관없이 최신순)
+CREATE INDEX idx_notification_receiver_created_at ON notification (receiver_id, created_at);
+
+-- 3. 모임 (meeting_post)
+-- findByCreatorIdOrderByCreatedAtDesc (내가 만든 모임)
+CREATE INDEX idx_meeting_post_creator_created_at ON meeting_post (creator_id, created_at);
@@ -0,0 +1,75 @@
+package com.example.backend.common.security;
+
+import com.example.backend.common.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationCacheTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationCache authenticationCache;
+
+    @BeforeEach
+    void setUp() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", "test-secret-key-at-least-32-characters-long-for-hs256");
+        provider.init();
+        jwtTokenProvider = spy(provider);
+        authenticationCache = new JwtAuthenticationCache(jwtTokenProvider, 100);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 요청하면 서명 검증 없이 캐시된 인증 객체를 반환한다")
+    void authenticate_SameToken_VerifiesOnce() {
+        String token = jwtTokenProvider.createTestToken(1L, "test@example.com", "ROLE_USER", 1000L * 60);
+
+        Authentication first = authenticationCache.authenticate(token).authentication();
+        Authentication second = authenticationCache.authenticate(token).authentication();
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getPrincipal()).isEqualTo(1L);
+        verify(jwtTokenProvider, times(1)).parseVerifiedClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("블랙리스트 조회용으로 토큰의 jti를 함께 돌려준다")
+    void authenticate_ReturnsTokenId() {
+        String accessToken = jwtTokenProvider.createTokenSet(1L, "test@example.com", "ROLE_USER").getAccessToken();
+
+        JwtAuthenticationCache.VerifiedToken verified = authenticationCache.authenticate(accessToken);
+
+        assertThat(verified.tokenId()).isEqualTo(jwtTokenProvider.getTokenId(accessToken)).hasSize(22);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시에 저장되지 않고 매번 EXPIRED_TOKEN으로 거부된다")
+    void authenticate_ExpiredToken_NotCached() {
+        String expired = jwtTokenProvider.createTestToken(1L, "test@example.com", "ROLE_USER", -1L);
+
+        assertThrows(CustomException.class, () -> authenticationCache.authenticate(expired));
+        assertThrows(CustomException.class, () -> authenticationCache.authenticate(expired));
+
+        assertThat(authenticationCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 항목은 토큰의 exp 시각이 지나면 사라진다")
+    void authenticate_EntryExpiresWithToken() throws InterruptedException {
+        String shortLived = jwtTokenProvider.createTestToken(1L, "test@example.com", "ROLE_USER", 1500L);
+        authenticationCache.authenticate(shortLived);
+        assertThat(authenticationCache.size()).isEqualTo(1);
+
+        Thread.sleep(2000);
+
+        assertThat(authenticationCache.size()).isZero();
+        assertThrows(CustomException.class, () -> authenticationCache.authenticate(shortLived));
+    }
+}
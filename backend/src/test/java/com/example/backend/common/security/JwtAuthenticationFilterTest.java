@@ -0,0 +1,98 @@
+package com.example.backend.common.security;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+
+    private JwtAuthenticationCache authenticationCache;
+    private TokenBlacklist tokenBlacklist;
+    private SimpleMeterRegistry registry;
+    private JwtAuthenticationFilter filter;
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        authenticationCache = mock(JwtAuthenticationCache.class);
+        tokenBlacklist = mock(TokenBlacklist.class);
+        registry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(authenticationCache, tokenBlacklist, registry);
+        filterChain = mock(FilterChain.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("만료 토큰: ErrorCode 이름으로 401 응답하고 사유 코드별 인증 실패 지표를 올린다")
+    void expiredToken_RespondsWithErrorCodeAndCounts() throws Exception {
+        // given
+        given(authenticationCache.authenticate("expired")).willThrow(new CustomException(ErrorCode.EXPIRED_TOKEN));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(bearer("expired"), response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentAsString()).contains("\"code\":\"EXPIRED_TOKEN\"");
+        assertThat(registry.get("auth.failures").tag("code", "EXPIRED_TOKEN").counter().count()).isEqualTo(1.0);
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃된 토큰: LOGOUT_TOKEN으로 집계한다")
+    void blacklistedToken_CountsLogout() throws Exception {
+        // given
+        given(authenticationCache.authenticate("logged-out")).willReturn(new JwtAuthenticationCache.VerifiedToken(
+                new UsernamePasswordAuthenticationToken(1L, null, List.of()), "jti-1"));
+        given(tokenBlacklist.isBlacklisted("jti-1")).willReturn(true);
+
+        // when
+        filter.doFilter(bearer("logged-out"), new MockHttpServletResponse(), filterChain);
+
+        // then
+        assertThat(registry.get("auth.failures").tag("code", "LOGOUT_TOKEN").counter().count()).isEqualTo(1.0);
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("정상 토큰: 인증 실패 지표 없이 다음 필터로 진행한다")
+    void validToken_NoFailureRecorded() throws Exception {
+        // given
+        given(authenticationCache.authenticate("valid")).willReturn(new JwtAuthenticationCache.VerifiedToken(
+                new UsernamePasswordAuthenticationToken(1L, null, List.of()), "jti-2"));
+
+        // when
+        filter.doFilter(bearer("valid"), new MockHttpServletResponse(), filterChain);
+
+        // then
+        assertThat(registry.find("auth.failures").counters()).isEmpty();
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
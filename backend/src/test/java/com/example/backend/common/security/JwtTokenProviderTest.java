@@ -4,16 +4,13 @@ package com.example.backend.common.security;
 import com.example.backend.common.exception.CustomException;
 import com.example.backend.common.exception.CustomJwtException;
 import com.example.backend.common.exception.ErrorCode;
-import io.jsonwebtoken.security.Keys;
+import com.example.backend.dto.TokenResponseDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -27,9 +24,9 @@ class JwtTokenProviderTest {
     void setUp() {
         jwtTokenProvider = new JwtTokenProvider();
 
-        // 1. JwtTokenProvider 내부의 'key' 필드에 SecretKey 객체 주입
-        SecretKey secretKey = Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8));
-        ReflectionTestUtils.setField(jwtTokenProvider, "key", secretKey);
+        // 1. @Value로 주입되는 비밀키를 넣고 키/공유 파서 초기화
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", secretKeyString);
+        jwtTokenProvider.init();
 
         // 2. 테스트에 사용할 정상 토큰 미리 생성 (ID와 Role을 반드시 포함)
         validAccessToken = jwtTokenProvider.createTestToken(1L, "test@example.com", "ROLE_USER", 1000L * 60 * 60);
@@ -155,4 +152,24 @@ class JwtTokenProviderTest {
         // then
         assertThat(extractedEmail).isEqualTo(email);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("발급 토큰에는 jti가 들어가고, 토큰 식별자는 토큰마다 다른 22자 값이다")
+    void createTokenSet_ContainsTokenId() {
+        // when
+        TokenResponseDto first = jwtTokenProvider.createTokenSet(1L, "test@example.com", "ROLE_USER");
+        TokenResponseDto second = jwtTokenProvider.createTokenSet(1L, "test@example.com", "ROLE_USER");
+
+        // then
+        assertThat(jwtTokenProvider.getTokenId(first.getRefreshToken())).isEqualTo(first.getRefreshTokenId());
+        assertThat(first.getRefreshTokenId()).hasSize(22).isNotEqualTo(second.getRefreshTokenId());
+        assertThat(jwtTokenProvider.getTokenId(first.getAccessToken())).isNotEqualTo(first.getRefreshTokenId());
+    }
+
+    @Test
+    @DisplayName("jti가 없는 이전 토큰은 토큰 해시를 식별자로 사용한다 (배포 전 발급 토큰 호환)")
+    void getTokenId_LegacyTokenWithoutJti_UsesHash() {
+        assertThat(jwtTokenProvider.getTokenId(validAccessToken))
+                .isEqualTo(TokenHasher.compactHash(validAccessToken));
+    }
+}
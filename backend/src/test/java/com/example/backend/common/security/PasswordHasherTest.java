@@ -0,0 +1,71 @@
+package com.example.backend.common.security;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("strength가 같은 해시는 검증만 하고 재해시하지 않는다")
+    void verify_SameStrength_NoRehash() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        PasswordHasher hasher = new PasswordHasher(encoder, Runnable::run, meterRegistry);
+        String hash = encoder.encode("password123");
+
+        PasswordHasher.Verification result = hasher.verify("password123", hash).join();
+
+        assertThat(result.matched()).isTrue();
+        assertThat(result.upgradedHash()).isNull();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "verify").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("설정보다 낮은 strength의 해시는 검증 성공 시 새 strength로 재해시한다")
+    void verify_OutdatedStrength_ReturnsUpgradedHash() {
+        String oldHash = new BCryptPasswordEncoder(4).encode("password123");
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(5);
+        PasswordHasher hasher = new PasswordHasher(encoder, Runnable::run, meterRegistry);
+
+        PasswordHasher.Verification result = hasher.verify("password123", oldHash).join();
+
+        assertThat(result.matched()).isTrue();
+        assertThat(result.upgradedHash()).startsWith("$2a$05$");
+        assertThat(encoder.matches("password123", result.upgradedHash())).isTrue();
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 재해시하지 않는다")
+    void verify_WrongPassword_NoRehash() {
+        String oldHash = new BCryptPasswordEncoder(4).encode("password123");
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(5), Runnable::run, meterRegistry);
+
+        PasswordHasher.Verification result = hasher.verify("wrong", oldHash).join();
+
+        assertThat(result.matched()).isFalse();
+        assertThat(result.upgradedHash()).isNull();
+    }
+
+    @Test
+    @DisplayName("해시 풀이 가득 차면 기다리지 않고 AUTH_SERVER_BUSY로 거절한다")
+    void verify_PoolFull_RejectsImmediately() {
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(4), task -> {
+            throw new RejectedExecutionException("full");
+        }, meterRegistry);
+
+        assertThatThrownBy(() -> hasher.verify("password123", "hash"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AUTH_SERVER_BUSY);
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.backend.common.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class TokenBlacklistTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private TokenBlacklist tokenBlacklist;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        tokenBlacklist = new TokenBlacklist(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("첫 동기화 전에는 기존처럼 Redis에 직접 조회한다")
+    void isBlacklisted_BeforeSync_FallsBackToRedis() {
+        given(valueOperations.get("BL:token-a")).willReturn("logout");
+
+        assertThat(tokenBlacklist.isBlacklisted("token-a")).isTrue();
+        verify(valueOperations).get("BL:token-a");
+    }
+
+    @Test
+    @DisplayName("동기화 후에는 Redis 호출 없이 로컬 사본만으로 판단한다")
+    void isBlacklisted_AfterSync_NoRedisCall() {
+        // given - Redis에 로그아웃된 토큰 1건
+        givenScanResult("BL:logged-out");
+        tokenBlacklist.resync();
+
+        // when & then
+        assertThat(tokenBlacklist.isBlacklisted("logged-out")).isTrue();
+        assertThat(tokenBlacklist.isBlacklisted("active-token")).isFalse();
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 이 인스턴스에 즉시 반영하고 다른 인스턴스를 위해 해시를 발행한다")
+    void broadcast_MarksLocallyAndPublishesHash() {
+        givenScanResult();
+        tokenBlacklist.resync();
+
+        tokenBlacklist.broadcast("token-b", 60_000L);
+
+        assertThat(tokenBlacklist.isBlacklisted("token-b")).isTrue();
+        verify(redisTemplate).convertAndSend(eq(TokenBlacklist.CHANNEL), startsWith("token-b:"));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 발행 메시지를 받으면 로컬 사본에 추가되고, 만료 시각이 지난 항목은 무시된다")
+    void handleMessage_AddsEntryUntilExpiry() {
+        givenScanResult();
+        tokenBlacklist.resync();
+        long now = System.currentTimeMillis();
+
+        tokenBlacklist.handleMessage("token-c:" + (now + 60_000));
+        tokenBlacklist.handleMessage("token-d:" + (now - 1));
+
+        assertThat(tokenBlacklist.isBlacklisted("token-c")).isTrue();
+        assertThat(tokenBlacklist.isBlacklisted("token-d")).isFalse();
+
+        tokenBlacklist.resync(); // 만료 항목 정리
+        assertThat(tokenBlacklist.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("아직 변환되지 않은 이전 형식 키(BL:토큰원문)도 토큰 식별자로 바꿔서 인식한다")
+    void resync_LegacyRawTokenKey_ConvertedToTokenId() {
+        String legacyToken = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ1c2VyIn0.signature";
+        givenScanResult("BL:" + legacyToken);
+
+        tokenBlacklist.resync();
+
+        assertThat(tokenBlacklist.isBlacklisted(TokenHasher.compactHash(legacyToken))).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScanResult(String... keys) {
+        Iterator<String> iterator = List.of(keys).iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        given(cursor.hasNext()).willAnswer(invocation -> iterator.hasNext());
+        given(cursor.next()).willAnswer(invocation -> iterator.next());
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+    }
+}
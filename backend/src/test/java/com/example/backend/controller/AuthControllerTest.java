@@ -1,5 +1,7 @@
 package com.example.backend.controller;
 
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
 import com.example.backend.dto.RegisterRequest;
 import com.example.backend.dto.TokenResponseDto;
 import com.example.backend.service.AuthService;
@@ -13,12 +15,15 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf; // CSRF 추가
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -62,22 +67,46 @@ class AuthControllerTest {
                 .refreshTokenExpirationTime(3600000L)
                 .build();
 
-        given(authService.login(any(), any())).willReturn(responseDto);
+        given(authService.login(any(), any())).willReturn(CompletableFuture.completedFuture(responseDto));
 
         Map<String, String> loginRequest = Map.of(
                 "email", "test@test.com",
                 "password", "password123"
         );
 
-        mockMvc.perform(post("/api/auth/login")
+        MvcResult asyncResult = mockMvc.perform(post("/api/auth/login")
                         .with(csrf()) // CSRF 토큰 시뮬레이션
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 비밀번호 검증이 해시 풀에서 끝난 뒤 응답
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("Set-Cookie"))
                 .andExpect(jsonPath("$.accessToken").value("access-token"));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("로그인 API 테스트 - 해시 풀이 가득 차면 바로 503 반환")
+    void login_busy_test() throws Exception {
+        given(authService.login(any(), any())).willThrow(new CustomException(ErrorCode.AUTH_SERVER_BUSY));
+
+        Map<String, String> loginRequest = Map.of(
+                "email", "test@test.com",
+                "password", "password123"
+        );
+
+        mockMvc.perform(post("/api/auth/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.code").value("AUTH_005"));
+    }
+
     @Test
     @WithMockUser
     @DisplayName("로그아웃 API 테스트 - 쿠키 만료")
@@ -2,7 +2,7 @@ package com.example.backend.controller;
 
 
 import com.example.backend.entity.Category;
-import com.example.backend.repository.CategoryRepository;
+import com.example.backend.service.ReferenceDataCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,11 +13,11 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CategoryController.class) // Controller 레이어만 테스트
 class CategoryControllerTest {
@@ -26,7 +26,7 @@ class CategoryControllerTest {
     private MockMvc mockMvc;
 
     @MockitoBean
-    private CategoryRepository categoryRepository;
+    private ReferenceDataCache referenceDataCache;
 
     @Test
     @WithMockUser // 🎯 가짜 사용자를 생성하여 Security 인증을 통과시킴
@@ -37,13 +37,28 @@ class CategoryControllerTest {
                 new Category("개발"),
                 new Category("운동")
         );
-        given(categoryRepository.findAll()).willReturn(categories);
+        given(referenceDataCache.getCategories())
+                .willReturn(new ReferenceDataCache.CategoryList(categories, "\"v1\""));
 
         // when & then: 호출 및 검증
         mockMvc.perform(get("/api/categories"))
                 .andExpect(status().isOk()) // 🎯 여기서 HTTP 200(OK) 확인!
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].name").value("개발"))
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(header().string("Cache-Control", containsString("max-age=600")))
                 .andDo(print());
     }
+
+    @Test
+    @WithMockUser
+    @DisplayName("ETag가 같으면 본문 없이 304 Not Modified를 반환한다")
+    void getCategories_NotModified() throws Exception {
+        given(referenceDataCache.getCategories())
+                .willReturn(new ReferenceDataCache.CategoryList(List.of(new Category("개발")), "\"v1\""));
+
+        mockMvc.perform(get("/api/categories").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import com.example.backend.common.exception.ErrorCode;
 import com.example.backend.dto.MeetingDetailResponse;
 import com.example.backend.dto.MeetingPostCreateRequest;
 import com.example.backend.dto.MeetingPostUpdateRequest;
+import com.example.backend.dto.MeetingSliceResponse;
+import com.example.backend.service.MeetingFeedCache;
 import com.example.backend.service.MeetingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
@@ -41,6 +43,9 @@ class MeetingPostControllerTest {
     @MockitoBean // Spring Boot 버전에 따라 @MockitoBean 또는 @MockBean 사용
     private MeetingService meetingService;
 
+    @MockitoBean
+    private MeetingFeedCache meetingFeedCache;
+
     // --- 1. 모임 생성 테스트 ---
     @Test
     @DisplayName("모임 생성 API 호출 성공 - 201 Created를 반환한다")
@@ -98,9 +103,9 @@ class MeetingPostControllerTest {
         // 💡 핵심: 서비스가 호출될 때, 인자로 넘어온 response 객체에 직접 쿠키를 넣어주는 동작을 정의합니다.
         willAnswer(invocation -> {
             HttpServletResponse res = invocation.getArgument(3); // 4번째 인자 (index 3)
-            Cookie cookie = new Cookie("postView", "[" + meetingId + "]");
+            Cookie cookie = new Cookie("viewerId", "guest-uuid");
             cookie.setPath("/");
-            cookie.setMaxAge(60 * 60 * 24);
+            cookie.setMaxAge(60 * 60 * 24 * 365);
             res.addCookie(cookie); // Mock 객체인 response에 쿠키 주입
             return response;
         }).given(meetingService).getMeetingDetail(eq(meetingId), any(), any(), any());
@@ -108,8 +113,8 @@ class MeetingPostControllerTest {
         // when & then
         mockMvc.perform(get("/api/meetings/{id}", meetingId))
                 .andExpect(status().isOk())
-                .andExpect(cookie().exists("postView")) //
-                .andExpect(cookie().value("postView", containsString("[" + meetingId + "]")));
+                .andExpect(cookie().exists("viewerId")) //
+                .andExpect(cookie().value("viewerId", containsString("guest-uuid")));
     }
 
     // --- 3. 모임 수정 테스트 (Update) ---
@@ -166,27 +171,48 @@ class MeetingPostControllerTest {
 
     // --- 5. 목록 조회 및 필터링 테스트 ---
     @Test
-    @DisplayName("정렬 조건 없이 목록 조회 시 기본값(latest)으로 서비스를 호출한다")
+    @DisplayName("정렬 조건 없이 목록 조회 시 기본값(latest, size=20)으로 캐시를 조회한다")
     void getAllMeetings_Default() throws Exception {
-        given(meetingService.getAllMeetings("latest", null)).willReturn(List.of());
+        given(meetingFeedCache.getFeed("latest", null, null, 20)).willReturn(emptySlice());
 
         mockMvc.perform(get("/api/meetings"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.hasNext").value(false));
 
-        verify(meetingService).getAllMeetings("latest", null);
+        verify(meetingFeedCache).getFeed("latest", null, null, 20);
     }
 
     @Test
-    @DisplayName("특정 정렬 조건(popular) 파라미터가 서비스로 잘 전달된다")
+    @DisplayName("특정 정렬 조건(popular)과 커서 파라미터가 캐시로 잘 전달된다")
     void getAllMeetings_WithParams() throws Exception {
-        given(meetingService.getAllMeetings("popular", 1L)).willReturn(List.of());
+        given(meetingFeedCache.getFeed("popular", 1L, "abc", 10)).willReturn(emptySlice());
 
         mockMvc.perform(get("/api/meetings")
                         .param("sortBy", "popular")
-                        .param("categoryId", "1"))
+                        .param("categoryId", "1")
+                        .param("cursor", "abc")
+                        .param("size", "10"))
                 .andExpect(status().isOk());
 
-        verify(meetingService).getAllMeetings("popular", 1L);
+        verify(meetingFeedCache).getFeed("popular", 1L, "abc", 10);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 목록 조회 시 400 Bad Request를 반환한다")
+    void getAllMeetings_InvalidCursor() throws Exception {
+        given(meetingFeedCache.getFeed(anyString(), any(), eq("broken"), anyInt()))
+                .willThrow(new CustomException(ErrorCode.INVALID_CURSOR));
+
+        mockMvc.perform(get("/api/meetings").param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("MEETING_006"));
+    }
+
+    // 캐시에는 직렬화된 JSON 바이트가 저장됨
+    private byte[] emptySlice() throws Exception {
+        return objectMapper.writeValueAsBytes(
+                MeetingSliceResponse.builder().content(List.of()).hasNext(false).build());
     }
 
     @Test
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.example.backend.dto.NotificationResponse;
+import com.example.backend.dto.NotificationSliceResponse;
 import com.example.backend.service.NotificationService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,15 +38,42 @@ class NotificationControllerTest {
         NotificationResponse res1 = new NotificationResponse(101L, "알림1", "/url1", false, LocalDateTime.now().toString());
         NotificationResponse res2 = new NotificationResponse(102L, "알림2", "/url2", true, LocalDateTime.now().toString());
 
-        given(notificationService.getMyNotifications(1L)).willReturn(List.of(res1, res2));
+        given(notificationService.getMyNotifications(1L, 103L, 2))
+                .willReturn(new NotificationSliceResponse(List.of(res1, res2), 101L, true));
 
         // when & then
         mockMvc.perform(get("/api/notifications")
+                        .param("cursor", "103")
+                        .param("size", "2")
                         .with(csrf())) // Security 설정에 따라 필요할 수 있음
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()").value(2))
-                .andExpect(jsonPath("$[0].content").value("알림1"))
-                .andExpect(jsonPath("$[1].id").value(102L));
+                .andExpect(jsonPath("$.content.size()").value(2))
+                .andExpect(jsonPath("$.content[0].content").value("알림1"))
+                .andExpect(jsonPath("$.content[1].id").value(102L))
+                .andExpect(jsonPath("$.nextCursor").value(101L))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    @DisplayName("안 읽은 알림 개수 조회 API 성공")
+    void getUnreadCount_Success() throws Exception {
+        given(notificationService.getUnreadCount(1L)).willReturn(3L);
+
+        mockMvc.perform(get("/api/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3));
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    @DisplayName("모두 읽음 처리 PATCH API 성공")
+    void readAllNotifications_Success() throws Exception {
+        mockMvc.perform(patch("/api/notifications/read-all")
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        verify(notificationService).markAllAsRead(1L);
     }
 
     @Test
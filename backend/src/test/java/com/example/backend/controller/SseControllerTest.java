@@ -34,7 +34,7 @@ class SseControllerTest {
         // given
         Long memberId = 1L;
         SseEmitter expectedEmitter = new SseEmitter();
-        given(sseService.subscribe(memberId)).willReturn(expectedEmitter);
+        given(sseService.subscribe(memberId, null)).willReturn(expectedEmitter);
 
         // Authentication 객체는 스프링이 주입해주므로 서비스 호출 여부만 검증
         // when & then
@@ -43,13 +43,27 @@ class SseControllerTest {
                             .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
                     .andExpect(status().isOk());
 
-            verify(sseService, times(1)).subscribe(memberId);
+            verify(sseService, times(1)).subscribe(memberId, null);
         } catch (Exception e) {
             // SSE 특성상 비동기 에러가 나더라도 서비스 호출만 확인되면 성공으로 간주
-            verify(sseService, times(1)).subscribe(memberId);
+            verify(sseService, times(1)).subscribe(memberId, null);
         }
     }
 
+    @Test
+    @DisplayName("재연결: Last-Event-ID 헤더를 서비스로 넘겨 놓친 이벤트를 재전송하게 한다")
+    @WithMockUser(username = "1")
+    void subscribe_WithLastEventId_PassesToService() throws Exception {
+        given(sseService.subscribe(1L, "42")).willReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/subscribe")
+                        .header("Last-Event-ID", "42")
+                        .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
+                .andExpect(status().isOk());
+
+        verify(sseService, times(1)).subscribe(1L, "42");
+    }
+
     @Test
     @DisplayName("실패: 인증 정보의 형식이 숫자가 아닐 경우 401을 반환한다")
     @WithMockUser(username = "not_a_number")
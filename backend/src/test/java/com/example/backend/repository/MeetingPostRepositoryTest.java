@@ -1,13 +1,18 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.MeetingCursor;
+import com.example.backend.dto.MeetingListResponse;
 import com.example.backend.entity.Category;
 import com.example.backend.entity.MeetingPost;
 import com.example.backend.entity.Member;
 import com.example.backend.entity.Participation;
+import com.example.backend.enums.MeetingSortCondition;
 import com.example.backend.enums.MemberStatus;
 import com.example.backend.enums.ParticipationRole;
 import com.example.backend.enums.ParticipationStatus;
 import com.example.backend.enums.Role;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,14 +23,17 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true") // 쿼리 수 검증용
 @ActiveProfiles("test")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY) // H2 사용 강제
 class MeetingPostRepositoryTest {
@@ -119,14 +127,15 @@ class MeetingPostRepositoryTest {
     }
 
     @Test
-    @DisplayName("잔여석 순 정렬 테스트: 필터링 조건이 없을 때 전체 조회 확인")
-    void findAllOrderByUrgent() {
+    @DisplayName("잔여석 순 목록: 카테고리 조건이 없을 때 전체 조회 확인")
+    void findFeed_Urgent_AllCategories() {
         // when
-        List<MeetingPost> result = meetingPostRepository.findAllOrderByUrgent(null);
+        List<MeetingListResponse> result = meetingPostRepository
+                .findFeed(MeetingSortCondition.URGENT, null, null, 20);
 
         // then
         assertThat(result).isNotEmpty();
-        assertThat(result.get(0).getCategory()).isNotNull();
+        assertThat(result.get(0).getCategoryName()).isEqualTo("스터디");
     }
 
     @Test
@@ -151,4 +160,105 @@ class MeetingPostRepositoryTest {
         // 쿼리에 'mp.creator.id != :memberId' 조건이 있으므로 본인이 만든 글은 나오지 않음
         assertThat(results).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("키셋 페이지네이션: 커서를 따라가면 중복/누락 없이 (조회수 desc, id desc) 순서로 모두 조회된다")
+    void findFeed_KeysetPaging() {
+        // given - 조회수가 같은 글을 섞어서 id 타이브레이크까지 검증
+        int[] viewCounts = {10, 30, 30, 20, 30};
+        for (int viewCount : viewCounts) {
+            MeetingPost post = MeetingPost.builder()
+                    .title("조회수 " + viewCount)
+                    .description("내용")
+                    .capacity(5)
+                    .startDate(LocalDateTime.now().plusDays(1))
+                    .creator(host)
+                    .category(studyCategory)
+                    .build();
+            ReflectionTestUtils.setField(post, "viewCount", viewCount);
+            em.persist(post);
+        }
+        em.flush();
+        em.clear();
+
+        // when - 2개씩 끝까지 넘기기
+        List<MeetingListResponse> all = new ArrayList<>();
+        MeetingCursor cursor = null;
+        while (true) {
+            List<MeetingListResponse> page = meetingPostRepository
+                    .findFeed(MeetingSortCondition.POPULAR, studyCategory.getId(), cursor, 2);
+            all.addAll(page);
+            if (page.size() < 2) break;
+            cursor = MeetingCursor.of(MeetingSortCondition.POPULAR, page.get(page.size() - 1));
+        }
+
+        // then - setUp의 게시글(조회수 0) 포함 6건
+        assertThat(all).hasSize(6);
+        assertThat(all).extracting(MeetingListResponse::getId).doesNotHaveDuplicates();
+        assertThat(all).extracting(MeetingListResponse::getViewCount).containsExactly(30, 30, 30, 20, 10, 0);
+        assertThat(all.subList(0, 3)).extracting(MeetingListResponse::getId)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("N+1 검증: 모든 정렬/카테고리/커서 조합에서 SQL 1회, 엔티티 로딩 0회로 목록을 조회한다")
+    void findFeed_SingleStatement_NoEntityHydration() {
+        // given - 커서 조합까지 확인하기 위해 각 정렬의 첫 페이지에서 커서를 만들어 둔다
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        for (MeetingSortCondition sort : MeetingSortCondition.values()) {
+            for (Long categoryId : new Long[]{null, studyCategory.getId()}) {
+                List<MeetingListResponse> firstPage = meetingPostRepository.findFeed(sort, categoryId, null, 1);
+                MeetingCursor cursor = MeetingCursor.of(sort, firstPage.get(0));
+
+                for (MeetingCursor after : new MeetingCursor[]{null, cursor}) {
+                    em.clear();
+                    statistics.clear();
+
+                    // when
+                    meetingPostRepository.findFeed(sort, categoryId, after, 20);
+
+                    // then
+                    assertThat(statistics.getPrepareStatementCount())
+                            .as("sort=%s, categoryId=%s, cursor=%s", sort, categoryId, after != null)
+                            .isEqualTo(1);
+                    assertThat(statistics.getEntityLoadCount()).isZero();
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("잔여석 순 목록: 생성 컬럼 기준으로 정렬하고, 마감되었거나 이미 시작한 모임은 제외한다")
+    void findFeed_Urgent_ExcludesClosedAndPastMeetings() {
+        // given - setUp 게시글(잔여 4석) + 잔여 1석 / 마감 / 지난 모임
+        persistMeeting("잔여 1석", 3, 2, LocalDateTime.now().plusDays(1));
+        persistMeeting("마감", 3, 3, LocalDateTime.now().plusDays(1));
+        persistMeeting("지난 모임", 5, 1, LocalDateTime.now().minusDays(1));
+        em.flush();
+        em.clear();
+
+        // when
+        List<MeetingListResponse> result = meetingPostRepository
+                .findFeed(MeetingSortCondition.URGENT, studyCategory.getId(), null, 20);
+
+        // then
+        assertThat(result).extracting(MeetingListResponse::getTitle).containsExactly("잔여 1석", "스터디 모집");
+        assertThat(meetingPostRepository.findFeed(MeetingSortCondition.URGENT, null, null, 20))
+                .extracting(feed -> feed.getCapacity() - feed.getCurrentParticipants()).containsExactly(1, 4);
+    }
+
+    private void persistMeeting(String title, int capacity, int currentParticipants, LocalDateTime startDate) {
+        MeetingPost post = MeetingPost.builder()
+                .title(title)
+                .description("내용")
+                .capacity(capacity)
+                .startDate(startDate)
+                .creator(host)
+                .category(studyCategory)
+                .build();
+        ReflectionTestUtils.setField(post, "currentParticipants", currentParticipants);
+        em.persist(post);
+    }
+}
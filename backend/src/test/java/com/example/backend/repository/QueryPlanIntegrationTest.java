@@ -0,0 +1,182 @@
+package com.example.backend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 호출되는 리포지토리 쿼리의 실행 계획(EXPLAIN) 회귀 테스트 (실제 MySQL + Flyway 마이그레이션)
+ *
+ * 각 쿼리는 Hibernate가 만드는 SQL과 같은 모양(조건/정렬/LIMIT)으로 적어두고, 대상 테이블이
+ * full scan(type=ALL)이나 filesort로 바뀌면 실패합니다. 리포지토리 쿼리를 고치면 여기도 함께 맞춰야 합니다.
+ * 옵티마이저가 작은 테이블은 인덱스를 건너뛰므로 테이블마다 수천 건을 넣고 통계를 갱신한 뒤 확인합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanIntegrationTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+    private static final int MEMBERS = 2_000;
+    private static final int MEETINGS = 3_000;
+    private static final int PARTICIPATIONS = 6_000;
+    private static final int NOTIFICATIONS = 10_000;
+
+    private static final String FEED_SELECT =
+            "select m.id, m.title, c.name, u.email, u.nickname, m.capacity, m.current_participants, m.view_count, " +
+            "m.start_date, m.end_date, m.created_at " +
+            "from meeting_post m join category c on c.id = m.category_id join member u on u.id = m.creator_id ";
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION cte_max_recursion_depth = " + NOTIFICATIONS);
+            statement.execute(seed("member (nickname, email, password, role)", MEMBERS,
+                    "concat('member', n), concat('member', n, '@test.com'), 'encoded', 'ROLE_USER'"));
+            statement.execute(seed("meeting_post (creator_id, category_id, title, description, capacity, " +
+                            "current_participants, view_count, start_date, end_date, created_at)", MEETINGS,
+                    "n % " + MEMBERS + " + 1, n % 7 + 1, concat('모임', n), '설명', 10, n % 11, n % 500, " +
+                    "now() + interval (n % 60 - 20) day, now() + interval (n % 60 - 19) day, now() - interval n minute"));
+            statement.execute(seed("participation (member_id, meeting_post_id, role, status, join_reason)", PARTICIPATIONS,
+                    "n % " + MEMBERS + " + 1, (n * 7) % " + MEETINGS + " + 1, 'PARTICIPANT', " +
+                    "elt(n % 3 + 1, 'APPLIED', 'ACCEPTED', 'REJECTED'), '참여 희망'"));
+            statement.execute(seed("notification (receiver_id, content, url, is_read, created_at)", NOTIFICATIONS,
+                    "n % " + MEMBERS + " + 1, '알림', '/mypage', n % 3 = 0, now(6) - interval n minute"));
+            statement.execute("ANALYZE TABLE member, meeting_post, participation, notification");
+        }
+    }
+
+    static List<PlanCase> hotQueries() {
+        List<PlanCase> cases = new ArrayList<>(List.of(
+                new PlanCase("ParticipationRepository.existsByMemberIdAndMeetingPostId", "p", false,
+                        "select p.id from participation p where p.member_id = 5 and p.meeting_post_id = 36 limit 1"),
+                new PlanCase("ParticipationRepository.countByMeetingPostAndStatus", "p", false,
+                        "select count(p.id) from participation p where p.meeting_post_id = 36 and p.status = 'ACCEPTED'"),
+                new PlanCase("ParticipationRepository.findAllByMeetingPostId", "p", false,
+                        "select p.*, m.* from participation p join member m on m.id = p.member_id where p.meeting_post_id = 36"),
+                new PlanCase("MeetingPostRepository.findAllAppliedByMemberId", "p", false,
+                        "select p.*, mp.* from participation p join meeting_post mp on mp.id = p.meeting_post_id " +
+                        "join category c on c.id = mp.category_id join member u on u.id = mp.creator_id " +
+                        "where p.member_id = 5 and mp.creator_id <> 5 order by mp.created_at desc"),
+                new PlanCase("MeetingPostRepository.findByCreatorIdOrderByCreatedAtDesc", "m", true,
+                        "select m.* from meeting_post m where m.creator_id = 5 order by m.created_at desc"),
+                new PlanCase("NotificationRepository.findByReceiverIdOrderByIdDesc", "n", true,
+                        "select n.* from notification n where n.receiver_id = 5 order by n.id desc limit 21"),
+                new PlanCase("NotificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc", "n", true,
+                        "select n.* from notification n where n.receiver_id = 5 and n.id < 5000 order by n.id desc limit 21"),
+                new PlanCase("NotificationRepository.markAllAsRead", "n", false,
+                        "update notification n set n.is_read = true where n.receiver_id = 5 and n.is_read = false"),
+                new PlanCase("NotificationRepository.findPurgeCandidates", "n", false,
+                        "select n.* from notification n where n.id >= 1 and n.id < 501 and " +
+                        "(n.created_at < now() - interval 180 day or (n.is_read = true and n.created_at < now() - interval 30 day)) " +
+                        "order by n.id"),
+                new PlanCase("NotificationRepository.countByReceiverIdAndIsReadFalse", "n", false,
+                        "select count(n.id) from notification n where n.receiver_id = 5 and n.is_read = false"),
+                new PlanCase("NotificationRepository.existsByReceiverIdAndIsReadFalse", "n", false,
+                        "select n.id from notification n where n.receiver_id = 5 and n.is_read = false limit 1")
+        ));
+
+        // MeetingPostRepositoryCustomImpl.findFeed: 정렬 x 카테고리 유무 x 커서 유무
+        String[][] sorts = {
+                {"LATEST", "m.created_at", "desc", "'2030-01-01 00:00:00'", ""},
+                {"CLOSING", "m.start_date", "asc", "'2000-01-01 00:00:00'", ""},
+                {"POPULAR", "m.view_count", "desc", "250", ""},
+                {"URGENT", "m.remaining_seats", "asc", "3", "and m.remaining_seats > 0 and m.start_date > now() "},
+        };
+        for (String[] sort : sorts) {
+            String key = sort[1];
+            String direction = sort[2];
+            String op = "asc".equals(direction) ? ">" : "<";
+            String cursor = "and (" + key + " " + op + " " + sort[3] + " or (" + key + " = " + sort[3] +
+                    " and m.id " + op + " 1500)) ";
+            String order = "order by " + key + " " + direction + ", m.id " + direction + " limit 21";
+
+            for (String category : new String[]{"", "and m.category_id = 2 "}) {
+                for (String after : new String[]{"", cursor}) {
+                    cases.add(new PlanCase(
+                            "findFeed " + sort[0] + (category.isEmpty() ? "" : " +category") + (after.isEmpty() ? "" : " +cursor"),
+                            "m", true,
+                            FEED_SELECT + "where 1 = 1 " + category + sort[4] + after + order));
+                }
+            }
+        }
+        return cases;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQuery_UsesIndex(PlanCase planCase) throws SQLException {
+        List<PlanRow> plan = explain(planCase.sql());
+
+        PlanRow target = plan.stream()
+                .filter(row -> planCase.table().equals(row.table()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("실행 계획에 테이블이 없음: " + planCase.table() + " / " + plan));
+
+        assertThat(target.type()).as("%s full scan\n%s", planCase.name(), plan).isNotEqualTo("ALL");
+        assertThat(target.key()).as("%s 인덱스 미사용\n%s", planCase.name(), plan).isNotNull();
+        if (planCase.ordered()) {
+            assertThat(plan).as("%s filesort", planCase.name())
+                    .noneMatch(row -> row.extra() != null && row.extra().contains("Using filesort"));
+        }
+    }
+
+    private static List<PlanRow> explain(String sql) throws SQLException {
+        List<PlanRow> rows = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                rows.add(new PlanRow(resultSet.getString("table"), resultSet.getString("type"),
+                        resultSet.getString("key"), resultSet.getString("Extra")));
+            }
+        }
+        return rows;
+    }
+
+    // 1..count 수열로 테스트 데이터 일괄 삽입
+    private static String seed(String target, int count, String values) {
+        return "INSERT INTO " + target + " " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + count + ") " +
+                "SELECT " + values + " FROM seq";
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+    }
+
+    /**
+     * @param table   검사할 테이블 별칭
+     * @param ordered true면 filesort도 허용하지 않음 (ORDER BY를 인덱스로 처리해야 하는 쿼리)
+     */
+    record PlanCase(String name, String table, boolean ordered, String sql) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    record PlanRow(String table, String type, String key, String extra) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.backend.repository;
+
+import com.example.backend.common.security.JwtTokenProvider;
+import com.example.backend.dto.TokenResponseDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 원문 키/값 vs 토큰 식별자(jti) 키/값의 Redis 메모리 비교 리포트
+ *
+ * 실행: ./gradlew test --tests '*RedisTokenKeyMemoryReportTest' -Dreport.token-memory=true [-Dreport.sessions=1000000]
+ * 결과: build/reports/redis-token-memory.md
+ *
+ * 세션 1건 = RT:{email} 1개 + (로그아웃 시) BL 키 1개 로 보고 각각 따로 측정합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "report.token-memory", matches = "true")
+class RedisTokenKeyMemoryReportTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final int SESSIONS = Integer.getInteger("report.sessions", 1_000_000);
+    private static final int BATCH = 10_000;
+    private static final long TTL_MILLIS = 1000L * 60 * 60 * 24 * 7;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static JwtTokenProvider jwtTokenProvider;
+
+    @BeforeAll
+    static void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "report-secret-key-at-least-32-characters-long");
+        ReflectionTestUtils.invokeMethod(jwtTokenProvider, "init");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("세션 N건 기준 이전 형식(토큰 원문)과 새 형식(jti)의 Redis 사용 메모리를 비교한다")
+    void report() throws IOException {
+        long rawRefresh = measure(false, true);
+        long idRefresh = measure(true, true);
+        long rawBlacklist = measure(false, false);
+        long idBlacklist = measure(true, false);
+
+        String report = String.join("\n",
+                "# Redis token key memory (" + SESSIONS + " sessions, redis:7-alpine)",
+                "",
+                "| entry | raw token | token id (jti) | saved |",
+                "|---|---:|---:|---:|",
+                row("RT:{email}", rawRefresh, idRefresh),
+                row("BL:{token}", rawBlacklist, idBlacklist),
+                "",
+                "used_memory delta after writing the entries with a 7-day TTL; bytes per entry in parentheses.",
+                "");
+        Path output = Path.of("build", "reports", "redis-token-memory.md");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report, StandardCharsets.UTF_8);
+        System.out.println(report);
+
+        assertThat(idRefresh).isLessThan(rawRefresh);
+        assertThat(idBlacklist).isLessThan(rawBlacklist);
+    }
+
+    /**
+     * @param useTokenId true면 새 형식(jti), false면 이전 형식(토큰 원문)
+     * @param refresh    true면 RT:{email} 값, false면 BL 키
+     * @return 기록 전후 used_memory 차이 (bytes)
+     */
+    private long measure(boolean useTokenId, boolean refresh) {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        long before = usedMemory();
+
+        for (int start = 0; start < SESSIONS; start += BATCH) {
+            List<String[]> entries = new ArrayList<>(BATCH);
+            for (int i = start; i < Math.min(start + BATCH, SESSIONS); i++) {
+                String email = "user" + i + "@example.com";
+                TokenResponseDto tokens = jwtTokenProvider.createTokenSet((long) i, email, "ROLE_USER");
+                if (refresh) {
+                    entries.add(new String[]{"RT:" + email,
+                            useTokenId ? tokens.getRefreshTokenId() : tokens.getRefreshToken()});
+                } else {
+                    String access = tokens.getAccessToken();
+                    entries.add(new String[]{"BL:" + (useTokenId ? jwtTokenProvider.getTokenId(access) : access),
+                            "logout"});
+                }
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String[] entry : entries) {
+                    connection.stringCommands().pSetEx(bytes(entry[0]), TTL_MILLIS, bytes(entry[1]));
+                }
+                return null;
+            });
+        }
+        return usedMemory() - before;
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private String row(String entry, long raw, long tokenId) {
+        return String.format("| %s | %,d B (%d) | %,d B (%d) | %.1f%% |",
+                entry, raw, raw / SESSIONS, tokenId, tokenId / SESSIONS, 100.0 * (raw - tokenId) / raw);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.backend.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTokenKeyMigrationTest {
+
+    @InjectMocks private RedisTokenKeyMigration migration;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("Redis가 내려가 있어 변환과 실행 표시 삭제가 모두 실패해도 기동을 막지 않는다")
+    void run_RedisDown_DoesNotFailStartup() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(redisTemplate.delete(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+        assertThatCode(() -> migration.run(new DefaultApplicationArguments())).doesNotThrowAnyException();
+
+        verify(redisTemplate).delete("MIGRATION:TOKEN_KEYS");
+    }
+}
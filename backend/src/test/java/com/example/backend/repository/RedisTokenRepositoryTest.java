@@ -0,0 +1,135 @@
+package com.example.backend.repository;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.security.TokenBlacklist;
+import com.example.backend.dto.TokenResponseDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 재발급(compare-and-swap)/로그아웃 스크립트를 실제 Redis에서 검증합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTokenRepositoryTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static final String EMAIL = "test@example.com";
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private TokenBlacklist tokenBlacklist;
+    private RedisTokenRepository tokenRepository;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        tokenBlacklist = mock(TokenBlacklist.class);
+        tokenRepository = new RedisTokenRepository(redisTemplate, tokenBlacklist);
+        tokenRepository.saveRefreshToken(EMAIL, tokenSet("rt-1"));
+    }
+
+    @Test
+    @DisplayName("저장된 토큰으로 재발급하면 새 jti로 교체되고, 같은 토큰으로 다시 재발급하면 거부된다")
+    void rotateRefreshToken_ReusedToken_Rejected() {
+        tokenRepository.rotateRefreshToken(EMAIL, "rt-1", tokenSet("rt-2"));
+
+        assertThat(redisTemplate.opsForValue().get("RT:" + EMAIL)).isEqualTo("rt-2");
+        assertThat(redisTemplate.getExpire("RT:" + EMAIL, TimeUnit.SECONDS)).isPositive();
+
+        // 이미 교체된 토큰 재사용 -> 탈취 가능성, 저장된 토큰까지 삭제
+        assertThatThrownBy(() -> tokenRepository.rotateRefreshToken(EMAIL, "rt-1", tokenSet("rt-3")))
+                .isInstanceOf(CustomException.class);
+        assertThat(redisTemplate.hasKey("RT:" + EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 Refresh Token으로 동시에 재발급을 요청하면 한 요청만 교체에 성공하고, 재사용 감지로 토큰이 모두 폐기된다")
+    void rotateRefreshToken_Concurrent_OnlyOneSucceeds() throws InterruptedException {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        for (int i = 0; i < threads; i++) {
+            String newTokenId = "rt-new-" + i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    tokenRepository.rotateRefreshToken(EMAIL, "rt-1", tokenSet(newTokenId));
+                    succeeded.incrementAndGet();
+                } catch (CustomException | InterruptedException ignored) {
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(succeeded.get()).isEqualTo(1);
+        // 나머지 요청은 재사용으로 판단해 RT를 지우므로, 이긴 요청이 받은 토큰도 함께 폐기됨
+        assertThat(redisTemplate.hasKey("RT:" + EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 RT 삭제와 블랙리스트 등록이 함께 처리된다")
+    void revokeTokens_DeletesRefreshAndBlacklistsAccess() {
+        tokenRepository.revokeTokens(EMAIL, "at-1", 60_000L);
+
+        assertThat(redisTemplate.hasKey("RT:" + EMAIL)).isFalse();
+        assertThat(redisTemplate.opsForValue().get("BL:at-1")).isEqualTo("logout");
+        assertThat(redisTemplate.getExpire("BL:at-1", TimeUnit.SECONDS)).isBetween(1L, 60L);
+        verify(tokenBlacklist).broadcast("at-1", 60_000L);
+    }
+
+    private TokenResponseDto tokenSet(String refreshTokenId) {
+        return TokenResponseDto.builder()
+                .refreshTokenId(refreshTokenId)
+                .refreshTokenExpirationTime(60_000L)
+                .build();
+    }
+}
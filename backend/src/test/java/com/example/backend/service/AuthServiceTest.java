@@ -3,26 +3,27 @@ package com.example.backend.service;
 import com.example.backend.common.exception.CustomException;
 import com.example.backend.common.exception.ErrorCode;
 import com.example.backend.common.security.JwtTokenProvider;
+import com.example.backend.common.security.PasswordHasher;
 import com.example.backend.dto.RegisterRequest;
 import com.example.backend.dto.TokenResponseDto;
 import com.example.backend.entity.Member;
 import com.example.backend.entity.Region;
 import com.example.backend.enums.Role;
 import com.example.backend.repository.MemberRepository;
-import com.example.backend.repository.RegionRepository;
 import com.example.backend.repository.TokenRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,18 +37,24 @@ class AuthServiceTest {
     @Mock
     private MemberRepository memberRepository;
     @Mock
-    private RegionRepository regionRepository;
+    private ReferenceDataCache referenceDataCache;
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
     @Mock
     private JwtTokenProvider jwtTokenProvider;
     // RedisTemplate 대신  토큰 레포지토리 인터페이스를 모킹합니다.
     @Mock
     private TokenRepository tokenRepository;
 
-    @InjectMocks
     private AuthService authService;
 
+    @BeforeEach
+    void setUp() {
+        // 검증 이후 I/O 단계는 호출 스레드에서 바로 실행
+        authService = new AuthService(memberRepository, referenceDataCache, jwtTokenProvider,
+                passwordHasher, tokenRepository, Runnable::run);
+    }
+
     @Test
     @DisplayName("로그인 성공 - 토큰을 반환하고 리프레시 토큰을 저장한다")
     void login_success() {
@@ -60,16 +67,40 @@ class AuthServiceTest {
                 .accessToken("at").refreshToken("rt").build();
 
         when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
-        when(passwordEncoder.matches(password, member.getPassword())).thenReturn(true);
+        when(passwordHasher.verify(password, member.getPassword()))
+                .thenReturn(CompletableFuture.completedFuture(new PasswordHasher.Verification(true, null)));
         when(jwtTokenProvider.createTokenSet(1L, email, "ROLE_USER")).thenReturn(tokenDto);
 
         // [When]
-        TokenResponseDto result = authService.login(email, password);
+        TokenResponseDto result = authService.login(email, password).join();
 
         // [Then]
         assertThat(result.getAccessToken()).isEqualTo("at");
         // TokenRepository를 통해 저장되는지 확인
         verify(tokenRepository).saveRefreshToken(eq(email), any(TokenResponseDto.class));
+        verify(memberRepository, never()).updatePassword(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 성공 - 저장된 해시의 strength가 낮으면 새 해시로 교체한다")
+    void login_success_rehash() {
+        // [Given]
+        String email = "test@test.com";
+        String password = "password123";
+        Member member = Member.builder()
+                .id(1L).email(email).password("old-hash").role(Role.ROLE_USER).build();
+
+        when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
+        when(passwordHasher.verify(password, "old-hash"))
+                .thenReturn(CompletableFuture.completedFuture(new PasswordHasher.Verification(true, "new-hash")));
+        when(jwtTokenProvider.createTokenSet(1L, email, "ROLE_USER"))
+                .thenReturn(TokenResponseDto.builder().accessToken("at").build());
+
+        // [When]
+        authService.login(email, password).join();
+
+        // [Then]
+        verify(memberRepository).updatePassword(1L, "new-hash");
     }
 
     @Test
@@ -81,7 +112,7 @@ class AuthServiceTest {
         ReflectionTestUtils.setField(request, "regionId", 999L);
 
         when(memberRepository.existsByEmail(anyString())).thenReturn(false);
-        when(regionRepository.findById(999L)).thenReturn(Optional.empty());
+        when(referenceDataCache.getRegion(999L)).thenThrow(new CustomException(ErrorCode.REGION_NOT_FOUND));
 
         // [When & Then]
         assertThatThrownBy(() -> authService.register(request))
@@ -89,22 +120,46 @@ class AuthServiceTest {
                 .hasMessageContaining(ErrorCode.REGION_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("회원가입 성공 - 중복 확인 후 해시를 만들어 저장한다")
+    void register_success() {
+        // [Given]
+        RegisterRequest request = new RegisterRequest();
+        ReflectionTestUtils.setField(request, "email", "new@test.com");
+        ReflectionTestUtils.setField(request, "password", "password123");
+        ReflectionTestUtils.setField(request, "regionId", 1L);
+
+        when(memberRepository.existsByEmail("new@test.com")).thenReturn(false);
+        when(referenceDataCache.getRegion(1L)).thenReturn(mock(Region.class));
+        when(passwordHasher.encode("password123")).thenReturn(CompletableFuture.completedFuture("encoded"));
+
+        // [When]
+        authService.register(request);
+
+        // [Then]
+        verify(memberRepository).save(argThat((Member member) -> "encoded".equals(member.getPassword())));
+    }
+
     @Test
     @DisplayName("재발급 실패 - 저장된 토큰과 일치하지 않으면 EXPIRED_TOKEN 예외 발생")
     void reissue_fail_token_mismatch() {
         // [Given]
         String inputToken = "wrong-token";
         String email = "test@test.com";
+        Member member = Member.builder()
+                .id(1L).email(email).password("encoded").role(Role.ROLE_USER).build();
+        TokenResponseDto newTokenSet = TokenResponseDto.builder()
+                .accessToken("new-at").refreshToken("new-rt").refreshTokenId("new-rt-id").build();
 
         doNothing().when(jwtTokenProvider).validateTokenOrThrow(inputToken);
         when(jwtTokenProvider.getUserEmail(inputToken)).thenReturn(email);
+        when(jwtTokenProvider.getTokenId(inputToken)).thenReturn("wrong-token-id");
+        when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
+        when(jwtTokenProvider.createTokenSet(1L, email, "ROLE_USER")).thenReturn(newTokenSet);
 
-        // 로직 흐름상 validateRefreshToken에서 먼저 예외가 터진다면
-        // 아래 memberRepository 모킹은 필요 없음
-        // when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
-
+        // 저장값 비교와 교체는 저장소에서 원자적으로 처리 (불일치 시 예외)
         doThrow(new CustomException(ErrorCode.EXPIRED_TOKEN))
-                .when(tokenRepository).validateRefreshToken(email, inputToken);
+                .when(tokenRepository).rotateRefreshToken(email, "wrong-token-id", newTokenSet);
 
         // [When & Then]
         assertThatThrownBy(() -> authService.reissue(inputToken))
@@ -113,20 +168,45 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("로그아웃 성공 - RT 삭제 및 블랙리스트 등록")
+    @DisplayName("재발급 성공 - 기존 토큰 jti를 새 토큰으로 교체하고 새 토큰 세트를 반환한다")
+    void reissue_success() {
+        // [Given]
+        String refreshToken = "refresh-token";
+        String email = "test@test.com";
+        Member member = Member.builder()
+                .id(1L).email(email).password("encoded").role(Role.ROLE_USER).build();
+        TokenResponseDto newTokenSet = TokenResponseDto.builder()
+                .accessToken("new-at").refreshToken("new-rt").refreshTokenId("new-rt-id").build();
+
+        when(jwtTokenProvider.getUserEmail(refreshToken)).thenReturn(email);
+        when(jwtTokenProvider.getTokenId(refreshToken)).thenReturn("old-rt-id");
+        when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
+        when(jwtTokenProvider.createTokenSet(1L, email, "ROLE_USER")).thenReturn(newTokenSet);
+
+        // [When]
+        TokenResponseDto result = authService.reissue(refreshToken);
+
+        // [Then]
+        assertThat(result.getAccessToken()).isEqualTo("new-at");
+        verify(tokenRepository).rotateRefreshToken(email, "old-rt-id", newTokenSet);
+        verify(tokenRepository, never()).saveRefreshToken(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - RT 삭제 및 블랙리스트 등록 (토큰 원문 대신 jti로 등록)")
     void logout_success() {
         // [Given]
         String accessToken = "access-token";
         String email = "test@test.com";
         when(jwtTokenProvider.getUserEmail(accessToken)).thenReturn(email);
         when(jwtTokenProvider.getExpiration(accessToken)).thenReturn(3600L);
+        when(jwtTokenProvider.getTokenId(accessToken)).thenReturn("access-jti");
 
         // [When]
         authService.logout(accessToken);
 
         // [Then]
-        verify(tokenRepository).deleteRefreshToken(email);
-        verify(tokenRepository).addToBlacklist(eq(accessToken), anyLong());
+        verify(tokenRepository).revokeTokens(eq(email), eq("access-jti"), anyLong());
     }
 
     @Test
@@ -137,12 +217,15 @@ class AuthServiceTest {
         Member member = Member.builder().email(email).password("encoded").build();
 
         when(memberRepository.findByEmail(email)).thenReturn(Optional.of(member));
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+        when(passwordHasher.verify(anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(new PasswordHasher.Verification(false, null)));
 
         // [When & Then]
-        assertThatThrownBy(() -> authService.login(email, "wrong-password"))
-                .isInstanceOf(CustomException.class)
+        assertThatThrownBy(() -> authService.login(email, "wrong-password").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(CustomException.class)
                 .hasMessageContaining(ErrorCode.INVALID_PASSWORD.getMessage());
+        verify(tokenRepository, never()).saveRefreshToken(anyString(), any());
     }
 }
 
@@ -0,0 +1,149 @@
+package com.example.backend.service;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.dto.MeetingSliceResponse;
+import com.example.backend.event.MeetingChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class MeetingFeedCacheTest {
+
+    private MeetingService meetingService;
+    private MeetingFeedCache meetingFeedCache;
+
+    @BeforeEach
+    void setUp() {
+        meetingService = mock(MeetingService.class);
+        meetingFeedCache = new MeetingFeedCache(meetingService, new ObjectMapper(), Duration.ofMinutes(1), 100);
+        given(meetingService.getAllMeetings("latest", null, null, 20)).willReturn(
+                MeetingSliceResponse.builder().content(List.of()).hasNext(false).build());
+    }
+
+    @Test
+    @DisplayName("같은 조건의 두 번째 요청은 조회/직렬화 없이 같은 JSON 바이트를 반환한다")
+    void getFeed_SameKey_ServedFromCache() {
+        byte[] first = meetingFeedCache.getFeed("latest", null, null, 20);
+        byte[] second = meetingFeedCache.getFeed("latest", null, "", 20);
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8)).contains("\"hasNext\":false");
+        verify(meetingService, times(1)).getAllMeetings("latest", null, null, 20);
+    }
+
+    @Test
+    @DisplayName("모임 변경 이벤트를 받으면 캐시를 비우고 다음 요청에서 다시 조회한다")
+    void onMeetingChanged_InvalidatesPages() {
+        meetingFeedCache.getFeed("latest", null, null, 20);
+
+        meetingFeedCache.onMeetingChanged(new MeetingChangedEvent(1L));
+        meetingFeedCache.getFeed("latest", null, null, 20);
+
+        verify(meetingService, times(2)).getAllMeetings("latest", null, null, 20);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외를 그대로 전달하고 캐시에 남기지 않는다")
+    void getFeed_InvalidCursor_NotCached() {
+        given(meetingService.getAllMeetings("latest", null, "broken", 20))
+                .willThrow(new CustomException(ErrorCode.INVALID_CURSOR));
+
+        assertThatThrownBy(() -> meetingFeedCache.getFeed("latest", null, "broken", 20))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> meetingFeedCache.getFeed("latest", null, "broken", 20))
+                .isInstanceOf(CustomException.class);
+
+        verify(meetingService, times(2)).getAllMeetings("latest", null, "broken", 20);
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한 번만 조회하고, 기다린 요청도 같은 결과를 받는다")
+    void getFeed_ConcurrentSameKey_LoadsOnce() throws Exception {
+        // given - 첫 조회가 끝나지 않은 상태에서 다른 요청이 들어오도록 조회를 붙잡아 둠
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(meetingService.getAllMeetings("popular", null, null, 20)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return MeetingSliceResponse.builder().content(List.of()).hasNext(false).build();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<byte[]> first = executor.submit(() -> meetingFeedCache.getFeed("popular", null, null, 20));
+            loading.await(5, TimeUnit.SECONDS);
+            AtomicReference<Thread> secondThread = new AtomicReference<>();
+            Future<byte[]> second = executor.submit(() -> {
+                secondThread.set(Thread.currentThread());
+                return meetingFeedCache.getFeed("popular", null, null, 20);
+            });
+            awaitWaiting(secondThread); // 두 번째 요청이 첫 조회 결과를 기다리기 시작한 뒤에 조회를 끝냄
+            release.countDown();
+
+            // then
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            verify(meetingService, times(1)).getAllMeetings("popular", null, null, 20);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회 중 Error가 나도 기다리던 요청에 같은 Error를 전달하고 캐시에 남기지 않는다")
+    void getFeed_LoaderError_CompletesWaiters() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(meetingService.getAllMeetings("popular", null, null, 20)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new StackOverflowError("loader");
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<byte[]> first = executor.submit(() -> meetingFeedCache.getFeed("popular", null, null, 20));
+            loading.await(5, TimeUnit.SECONDS);
+            AtomicReference<Thread> secondThread = new AtomicReference<>();
+            Future<byte[]> second = executor.submit(() -> {
+                secondThread.set(Thread.currentThread());
+                return meetingFeedCache.getFeed("popular", null, null, 20);
+            });
+            awaitWaiting(secondThread);
+            release.countDown();
+
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 스레드가 시작되어 대기(join) 상태에 들어갈 때까지 최대 5초 기다림
+    private static void awaitWaiting(AtomicReference<Thread> thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.get() == null || thread.get().getState() != Thread.State.WAITING) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("두 번째 요청이 대기 상태에 들어가지 않음");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
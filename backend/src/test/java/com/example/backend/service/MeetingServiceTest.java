@@ -5,16 +5,15 @@ import com.example.backend.dto.*;
 import com.example.backend.entity.*;
 import com.example.backend.enums.ParticipationRole;
 import com.example.backend.enums.ParticipationStatus;
-import com.example.backend.repository.CategoryRepository;
 import com.example.backend.repository.MeetingPostRepository;
 import com.example.backend.repository.MemberRepository;
 import static org.mockito.Mockito.*;
-import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,7 +33,9 @@ class MeetingServiceTest {
     @InjectMocks private MeetingService meetingService;
     @Mock private MeetingPostRepository meetingPostRepository;
     @Mock private MemberRepository memberRepository;
-    @Mock private CategoryRepository categoryRepository;
+    @Mock private ReferenceDataCache referenceDataCache;
+    @Mock private ViewCountManager viewCountManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private Member testMember;
     private Category studyCategory;
@@ -82,7 +83,7 @@ class MeetingServiceTest {
         );
 
         given(memberRepository.findById(memberId)).willReturn(Optional.of(testMember));
-        given(categoryRepository.findById(categoryId)).willReturn(Optional.of(studyCategory));
+        given(referenceDataCache.getCategory(categoryId)).willReturn(studyCategory);
 
         // 저장 시 ID 100L이 세팅된 객체가 반환된다고 가정
         given(meetingPostRepository.save(any(MeetingPost.class))).willAnswer(invocation -> {
@@ -147,15 +148,16 @@ class MeetingServiceTest {
         }
 
         @Test
-        @DisplayName("최초 조회 시 조회수가 증가하고 쿠키가 생성된다")
+        @DisplayName("최초 조회 시 Redis에 누적된 증가분이 응답 조회수에 반영된다")
         void increases_count_on_first_view() {
             MeetingPost post = createPost(postId, "최초 조회", 0);
             given(meetingPostRepository.findByIdWithDetails(postId)).willReturn(Optional.of(post));
+            given(viewCountManager.recordView(postId, 1L, request, response)).willReturn(1L);
 
             MeetingDetailResponse result = meetingService.getMeetingDetail(postId, 1L, request, response);
 
             assertThat(result.getViewCount()).isEqualTo(1);
-            assertThat(response.getCookie("postView").getValue()).contains("[" + postId + "]");
+            assertThat(post.getViewCount()).isZero(); // 엔티티는 변경하지 않음 (UPDATE 미발생)
         }
 
         @Test
@@ -163,11 +165,11 @@ class MeetingServiceTest {
         void no_increase_on_duplicate_view() {
             MeetingPost post = createPost(postId, "중복 조회", 10);
             given(meetingPostRepository.findByIdWithDetails(postId)).willReturn(Optional.of(post));
-            request.setCookies(new Cookie("postView", "[" + postId + "]"));
+            given(viewCountManager.recordView(postId, 1L, request, response)).willReturn(0L);
 
             MeetingDetailResponse result = meetingService.getMeetingDetail(postId, 1L, request, response);
 
             assertThat(result.getViewCount()).isEqualTo(10);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+package com.example.backend.service;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.entity.Member;
+import com.example.backend.entity.Notification;
+import com.example.backend.event.NotificationEvent;
+import com.example.backend.repository.MemberRepository;
+import com.example.backend.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class NotificationDispatcherTest {
+
+    private NotificationRepository notificationRepository;
+    private MemberRepository memberRepository;
+    private SseService sseService;
+    private NotificationUnreadCounter unreadCounter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        sseService = mock(SseService.class);
+        unreadCounter = mock(NotificationUnreadCounter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        given(memberRepository.getReferenceById(anyLong()))
+                .willAnswer(invocation -> Member.builder().id(invocation.getArgument(0)).build());
+    }
+
+    // 워커를 띄우지 않은 상태로 생성 (큐 적재/배치 처리만 검증)
+    private NotificationDispatcher createDispatcher(int queueCapacity) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        TransactionStatus status = new SimpleTransactionStatus();
+        given(transactionManager.getTransaction(any())).willReturn(status);
+
+        return new NotificationDispatcher(notificationRepository, memberRepository, sseService, unreadCounter,
+                new SyncTaskExecutor(), transactionManager, meterRegistry, queueCapacity, 100, 1);
+    }
+
+    @Test
+    @DisplayName("배치 처리: 알림 N건을 saveAll 한 번으로 저장한 뒤 각각 SSE 전송한다")
+    void dispatch_SavesOnceAndSendsEach() {
+        NotificationDispatcher dispatcher = createDispatcher(10);
+        List<NotificationEvent> batch = List.of(
+                new NotificationEvent(1L, "알림1", "/a"),
+                new NotificationEvent(2L, "알림2", "/b"),
+                new NotificationEvent(3L, "알림3", "/c"));
+
+        dispatcher.dispatch(batch);
+
+        verify(notificationRepository, times(1)).saveAll(argThat(list -> ((List<?>) list).size() == 3));
+        verify(sseService).send(1L, "newNotification", "알림1");
+        verify(sseService).send(2L, "newNotification", "알림2");
+        verify(sseService).send(3L, "newNotification", "알림3");
+    }
+
+    @Test
+    @DisplayName("한 사용자의 SSE 전송 실패가 같은 배치의 다른 알림 전송을 막지 않는다")
+    void dispatch_SendFailureIsolated() {
+        NotificationDispatcher dispatcher = createDispatcher(10);
+        willThrowSendError(1L);
+
+        dispatcher.dispatch(List.of(
+                new NotificationEvent(1L, "실패할 알림", "/a"),
+                new NotificationEvent(2L, "정상 알림", "/b")));
+
+        verify(sseService).send(2L, "newNotification", "정상 알림");
+    }
+
+    @Test
+    @DisplayName("저장 후 수신자별 저장 건수만큼 안 읽은 알림 개수를 올린다")
+    void dispatch_IncrementsUnreadCountPerReceiver() {
+        NotificationDispatcher dispatcher = createDispatcher(10);
+
+        dispatcher.dispatch(List.of(
+                new NotificationEvent(1L, "알림1", "/a"),
+                new NotificationEvent(1L, "알림2", "/b"),
+                new NotificationEvent(2L, "알림3", "/c")));
+
+        verify(unreadCounter).increment(Map.of(1L, 2L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("커밋 후 이벤트는 큐에만 적재되고, 큐 크기가 게이지로 노출된다")
+    void onNotificationCreated_EnqueuesOnly() {
+        NotificationDispatcher dispatcher = createDispatcher(10);
+
+        dispatcher.onNotificationCreated(new NotificationEvent(1L, "알림", "/a"));
+
+        verifyNoInteractions(notificationRepository, sseService, unreadCounter);
+        assertThat(meterRegistry.get("notification.dispatch.queue.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 실시간 전송 없이 바로 저장하고 overflow 카운터를 올린다")
+    void onNotificationCreated_Overflow_PersistsDirectly() {
+        NotificationDispatcher dispatcher = createDispatcher(1);
+        dispatcher.onNotificationCreated(new NotificationEvent(1L, "첫 알림", "/a"));
+
+        dispatcher.onNotificationCreated(new NotificationEvent(2L, "넘친 알림", "/b"));
+
+        verify(notificationRepository, times(1)).saveAll(anyList());
+        verifyNoInteractions(sseService);
+        assertThat(meterRegistry.get("notification.dispatch.overflow").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 재시도까지 실패하면 한 건씩 저장해 문제 있는 알림만 버린다")
+    void dispatch_BatchFailure_FallsBackToSingleRows() {
+        NotificationDispatcher dispatcher = createDispatcher(10);
+        // 탈퇴한 수신자(2번)가 섞인 배치: 여러 건 저장은 항상 실패, 2번 단건 저장도 실패
+        given(notificationRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            if (notifications.size() > 1 || notifications.get(0).getReceiver().getId().equals(2L)) {
+                throw new DataIntegrityViolationException("fk_notification_receiver");
+            }
+            return notifications;
+        });
+
+        dispatcher.dispatch(List.of(
+                new NotificationEvent(1L, "알림1", "/a"),
+                new NotificationEvent(2L, "알림2", "/b"),
+                new NotificationEvent(3L, "알림3", "/c")));
+
+        // 배치 2번(최초 + 재시도) + 단건 3번
+        verify(notificationRepository, times(5)).saveAll(anyList());
+        verify(sseService).send(1L, "newNotification", "알림1");
+        verify(sseService).send(3L, "newNotification", "알림3");
+        verify(sseService, never()).send(eq(2L), anyString(), any());
+        verify(unreadCounter).increment(Map.of(1L, 1L, 3L, 1L));
+        assertThat(meterRegistry.get("notification.dispatch.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("일시적인 배치 저장 실패는 한 번 재시도해서 모두 저장한다")
+    void dispatch_TransientFailure_RetriesBatchOnce() {
+        NotificationDispatcher dispatcher = createDispatcher(10);
+        given(notificationRepository.saveAll(anyList()))
+                .willThrow(new TransientDataAccessResourceException("connection reset"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        dispatcher.dispatch(List.of(
+                new NotificationEvent(1L, "알림1", "/a"),
+                new NotificationEvent(2L, "알림2", "/b")));
+
+        verify(notificationRepository, times(2)).saveAll(argThat(list -> ((List<?>) list).size() == 2));
+        verify(unreadCounter).increment(Map.of(1L, 1L, 2L, 1L));
+    }
+
+    private void willThrowSendError(Long memberId) {
+        doThrow(new CustomException(ErrorCode.SSE_SEND_ERROR))
+                .when(sseService).send(eq(memberId), anyString(), any());
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Member;
+import com.example.backend.entity.Notification;
+import com.example.backend.event.NotificationReadEvent;
+import com.example.backend.repository.NotificationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class NotificationPurgerTest {
+
+    @TempDir
+    Path archiveDir;
+
+    private NotificationRepository notificationRepository;
+    private StringRedisTemplate redisTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+    }
+
+    private NotificationPurger createPurger(int batchSize, String archive) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+
+        return new NotificationPurger(notificationRepository, redisTemplate, transactionManager, eventPublisher,
+                objectMapper, meterRegistry, Duration.ofDays(30), Duration.ofDays(180), batchSize, 100,
+                Duration.ofMinutes(30), archive);
+    }
+
+    private Notification notification(long id, long receiverId, boolean read, int daysAgo) {
+        Notification notification = Notification.builder()
+                .receiver(Member.builder().id(receiverId).build())
+                .content("알림" + id)
+                .url("/mypage")
+                .build();
+        ReflectionTestUtils.setField(notification, "id", id);
+        ReflectionTestUtils.setField(notification, "isRead", read);
+        ReflectionTestUtils.setField(notification, "createdAt", LocalDateTime.now().minusDays(daysAgo));
+        return notification;
+    }
+
+    @Test
+    @DisplayName("ID 범위 단위로 후보를 찾아 PK로 삭제하고, 범위 시작 알림이 보관 기간 안이면 멈춘다")
+    void purge_DeletesByPrimaryKeyRanges() {
+        NotificationPurger purger = createPurger(100, "");
+        Notification oldRead = notification(1L, 7L, true, 40);
+        Notification oldUnread = notification(2L, 7L, false, 200);
+        Notification recent = notification(150L, 7L, false, 1);
+
+        given(notificationRepository.findFirstByIdGreaterThanOrderByIdAsc(0L)).willReturn(Optional.of(oldRead));
+        given(notificationRepository.findFirstByIdGreaterThanOrderByIdAsc(100L)).willReturn(Optional.of(recent));
+        given(notificationRepository.findPurgeCandidates(eq(1L), eq(101L), any(), any()))
+                .willReturn(List.of(oldRead, oldUnread));
+        given(notificationRepository.deleteByIdIn(List.of(1L, 2L))).willReturn(2);
+
+        purger.purge();
+
+        verify(notificationRepository, times(1)).findPurgeCandidates(anyLong(), anyLong(), any(), any());
+        verify(notificationRepository).deleteByIdIn(List.of(1L, 2L));
+        assertThat(meterRegistry.get("notification.retention.purged").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("notification.retention.purged.per-run").summary().totalAmount()).isEqualTo(2.0);
+        // 잠금은 획득할 때 넣은 토큰으로만 해제 (TTL 만료 후 다른 인스턴스가 잡은 잠금을 지우지 않음)
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate.opsForValue()).setIfAbsent(eq("NOTI:PURGE_LOCK"), token.capture(), any(Duration.class));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("NOTI:PURGE_LOCK")), eq(token.getValue()));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("읽은 알림은 30일, 모든 알림은 180일 기준 시각으로 조회한다")
+    void purge_UsesRetentionCutoffs() {
+        NotificationPurger purger = createPurger(100, "");
+        given(notificationRepository.findFirstByIdGreaterThanOrderByIdAsc(0L))
+                .willReturn(Optional.of(notification(1L, 7L, true, 40)));
+        given(notificationRepository.findFirstByIdGreaterThanOrderByIdAsc(100L)).willReturn(Optional.empty());
+        given(notificationRepository.findPurgeCandidates(anyLong(), anyLong(), any(), any())).willReturn(List.of());
+
+        purger.purge();
+
+        ArgumentCaptor<LocalDateTime> expireBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> readExpireBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationRepository).findPurgeCandidates(eq(1L), eq(101L),
+                expireBefore.capture(), readExpireBefore.capture());
+        assertThat(expireBefore.getValue()).isBetween(
+                LocalDateTime.now().minusDays(180).minusMinutes(1), LocalDateTime.now().minusDays(180));
+        assertThat(readExpireBefore.getValue()).isBetween(
+                LocalDateTime.now().minusDays(30).minusMinutes(1), LocalDateTime.now().minusDays(30));
+        verify(notificationRepository, never()).deleteByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("읽지 않은 채 삭제된 알림은 수신자별로 안 읽은 개수 차감 이벤트를 발행한다")
+    void purge_UnreadDeleted_PublishesReadEvent() {
+        NotificationPurger purger = createPurger(100, "");
+        given(notificationRepository.findFirstByIdGreaterThanOrderByIdAsc(0L))
+                .willReturn(Optional.of(notification(1L, 7L, false, 200)));
+        given(notificationRepository.findFirstByIdGreaterThanOrderByIdAsc(100L)).willReturn(Optional.empty());
+        given(notificationRepository.findPurgeCandidates(anyLong(), anyLong(), any(), any())).willReturn(List.of(
+                notification(1L, 7L, false, 200),
+                notification(2L, 7L, false, 199),
+                notification(3L, 8L, true, 190)));
+        given(notificationRepository.deleteByIdIn(anyList())).willReturn(3);
+
+        purger.purge();
+
+        ArgumentCaptor<NotificationReadEvent> captor = ArgumentCaptor.forClass(NotificationReadEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getReceiverId()).isEqualTo(7L);
+        assertThat(captor.getValue().getCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("archive-dir을 지정하면 삭제한 알림을 gzip NDJSON 파일로 남긴다")
+    void purge_WritesArchive() throws IOException {
+        NotificationPurger purger = createPurger(100, archiveDir.toString());
+        given(notificationRepository.findFirstByIdGreaterThanOrderByIdAsc(0L))
+                .willReturn(Optional.of(notification(1L, 7L, true, 40)));
+        given(notificationRepository.findFirstByIdGreaterThanOrderByIdAsc(100L)).willReturn(Optional.empty());
+        given(notificationRepository.findPurgeCandidates(anyLong(), anyLong(), any(), any())).willReturn(List.of(
+                notification(1L, 7L, true, 40),
+                notification(2L, 8L, true, 35)));
+        given(notificationRepository.deleteByIdIn(anyList())).willReturn(2);
+
+        purger.purge();
+
+        List<Path> files;
+        try (var listing = Files.list(archiveDir)) {
+            files = listing.toList();
+        }
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).getFileName().toString()).endsWith(".ndjson.gz");
+
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(files.get(0))), StandardCharsets.UTF_8))) {
+            lines = reader.lines().toList();
+        }
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(1)).get("receiverId").asLong()).isEqualTo(8L);
+        assertThat(meterRegistry.get("notification.retention.archived").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 실행 중이면(잠금 실패) 아무것도 하지 않는다")
+    void purge_LockedByOtherInstance_Skips() {
+        NotificationPurger purger = createPurger(100, "");
+        given(redisTemplate.opsForValue().setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        purger.purge();
+
+        verifyNoInteractions(notificationRepository);
+    }
+}
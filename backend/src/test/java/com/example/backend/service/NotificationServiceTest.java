@@ -8,17 +8,22 @@ import java.util.Optional;
 
 import com.example.backend.common.exception.CustomException;
 import com.example.backend.common.exception.ErrorCode;
-import com.example.backend.dto.NotificationResponse;
+import com.example.backend.dto.NotificationSliceResponse;
 import com.example.backend.entity.Member;
 import com.example.backend.entity.Notification;
+import com.example.backend.event.NotificationEvent;
+import com.example.backend.event.NotificationReadEvent;
 import com.example.backend.repository.NotificationRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +35,9 @@ class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
     @Mock
-    private SseService sseService;
+    private NotificationUnreadCounter unreadCounter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     // 가상의 데이터 생성 헬퍼 메서드
     private Member createMember(Long id) {
@@ -52,7 +59,7 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("알림 생성 및 저장 성공")
+    @DisplayName("알림 생성 요청 시 바로 저장/전송하지 않고 이벤트만 발행한다 (커밋 후 비동기 처리)")
     void createNotification_Success() {
         // given
         Member receiver = createMember(1L);
@@ -61,27 +68,72 @@ class NotificationServiceTest {
         notificationService.createNotification(receiver, "새로운 신청!", "/mypage");
 
         // then
-        verify(notificationRepository, times(1)).save(any(Notification.class));
+        ArgumentCaptor<NotificationEvent> captor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertThat(captor.getValue().getReceiverId()).isEqualTo(1L);
+        assertThat(captor.getValue().getContent()).isEqualTo("새로운 신청!");
+        verify(notificationRepository, never()).save(any(Notification.class));
     }
 
     @Test
-    @DisplayName("내 알림 목록 최신순 조회 성공")
-    void getMyNotifications_Success() {
+    @DisplayName("내 알림 목록 첫 페이지 조회: size + 1건을 조회해서 다음 커서를 만든다")
+    void getMyNotifications_FirstPage() {
         // given
         Long memberId = 1L;
         Member receiver = createMember(memberId);
-        Notification n1 = createNotification(101L, receiver);
-        Notification n2 = createNotification(102L, receiver);
+        given(notificationRepository.findByReceiverIdOrderByIdDesc(memberId, Limit.of(3)))
+                .willReturn(List.of(
+                        createNotification(103L, receiver),
+                        createNotification(102L, receiver),
+                        createNotification(101L, receiver)));
+
+        // when
+        NotificationSliceResponse result = notificationService.getMyNotifications(memberId, null, 2);
 
-        given(notificationRepository.findByReceiverIdOrderByCreatedAtDesc(memberId))
-                .willReturn(List.of(n2, n1));
+        // then
+        assertThat(result.getContent()).extracting("id").containsExactly(103L, 102L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(102L);
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 그 ID보다 작은 알림만 조회하고, 마지막 페이지는 커서가 없다")
+    void getMyNotifications_NextPage() {
+        // given
+        Long memberId = 1L;
+        Member receiver = createMember(memberId);
+        given(notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(memberId, 102L, Limit.of(3)))
+                .willReturn(List.of(createNotification(101L, receiver)));
 
         // when
-        List<NotificationResponse> result = notificationService.getMyNotifications(memberId);
+        NotificationSliceResponse result = notificationService.getMyNotifications(memberId, 102L, 2);
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getId()).isEqualTo(102L);
+        assertThat(result.getContent()).extracting("id").containsExactly(101L);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 개수는 알림 테이블이 아닌 카운터에서 가져온다")
+    void getUnreadCount_UsesCounter() {
+        given(unreadCounter.get(1L)).willReturn(7L);
+
+        assertThat(notificationService.getUnreadCount(1L)).isEqualTo(7L);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리는 UPDATE 한 번으로 하고, 바뀐 건수만큼 차감 이벤트를 발행한다")
+    void markAllAsRead_Success() {
+        given(notificationRepository.markAllAsRead(1L)).willReturn(5);
+
+        notificationService.markAllAsRead(1L);
+
+        ArgumentCaptor<NotificationReadEvent> captor = ArgumentCaptor.forClass(NotificationReadEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getReceiverId()).isEqualTo(1L);
+        assertThat(captor.getValue().getCount()).isEqualTo(5L);
     }
 
     @Nested
@@ -97,12 +149,30 @@ class NotificationServiceTest {
             Notification notification = createNotification(100L, receiver);
 
             given(notificationRepository.findById(100L)).willReturn(Optional.of(notification));
+            given(notificationRepository.markAsReadIfUnread(100L)).willReturn(1);
 
             // when
             notificationService.markAsRead(100L, memberId);
 
             // then
-            assertThat(notification.isRead()).isTrue();
+            verify(eventPublisher).publishEvent(any(NotificationReadEvent.class));
+        }
+
+        @Test
+        @DisplayName("이미 읽은 알림을 다시 읽음 처리하면 안 읽은 개수를 차감하지 않는다")
+        void markAsRead_AlreadyRead_NoEvent() {
+            // given
+            Long memberId = 1L;
+            Notification notification = createNotification(100L, createMember(memberId));
+
+            given(notificationRepository.findById(100L)).willReturn(Optional.of(notification));
+            given(notificationRepository.markAsReadIfUnread(100L)).willReturn(0);
+
+            // when
+            notificationService.markAsRead(100L, memberId);
+
+            // then
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
@@ -143,12 +213,32 @@ class NotificationServiceTest {
             Notification notification = createNotification(100L, receiver);
 
             given(notificationRepository.findById(100L)).willReturn(Optional.of(notification));
+            given(notificationRepository.deleteIfUnread(100L)).willReturn(0); // 이미 읽은 알림
 
             // when
             notificationService.deleteNotification(100L, memberId);
 
             // then
             verify(notificationRepository, times(1)).delete(notification);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("안 읽은 알림을 삭제하면 안 읽은 개수 차감 이벤트를 발행한다")
+        void deleteNotification_Unread_PublishesEvent() {
+            // given
+            Long memberId = 1L;
+            Notification notification = createNotification(100L, createMember(memberId));
+
+            given(notificationRepository.findById(100L)).willReturn(Optional.of(notification));
+            given(notificationRepository.deleteIfUnread(100L)).willReturn(1);
+
+            // when
+            notificationService.deleteNotification(100L, memberId);
+
+            // then
+            verify(notificationRepository, never()).delete(any(Notification.class));
+            verify(eventPublisher).publishEvent(any(NotificationReadEvent.class));
         }
     }
 }
\ No newline at end of file
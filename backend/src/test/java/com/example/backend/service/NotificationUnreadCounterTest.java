@@ -0,0 +1,104 @@
+package com.example.backend.service;
+
+import com.example.backend.event.NotificationReadEvent;
+import com.example.backend.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * 안 읽은 알림 카운터 스크립트를 실제 Redis에서 검증합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationUnreadCounterTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private NotificationRepository notificationRepository;
+    private NotificationUnreadCounter unreadCounter;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        notificationRepository = mock(NotificationRepository.class);
+        unreadCounter = new NotificationUnreadCounter(redisTemplate, notificationRepository);
+    }
+
+    @Test
+    @DisplayName("캐시가 없을 때만 DB에서 세고, 이후 조회는 Redis 값만 사용한다")
+    void get_CountsOnceThenUsesCache() {
+        given(notificationRepository.countByReceiverIdAndIsReadFalse(1L)).willReturn(4L);
+
+        assertThat(unreadCounter.get(1L)).isEqualTo(4L);
+        assertThat(unreadCounter.get(1L)).isEqualTo(4L);
+
+        verify(notificationRepository, times(1)).countByReceiverIdAndIsReadFalse(1L);
+        assertThat(redisTemplate.getExpire(NotificationUnreadCounter.KEY_PREFIX + 1L)).isPositive();
+    }
+
+    @Test
+    @DisplayName("저장/읽음 처리에 따라 캐시된 개수가 증감하고, 0 아래로 내려가지 않는다")
+    void incrementAndDecrement() {
+        given(notificationRepository.countByReceiverIdAndIsReadFalse(1L)).willReturn(2L);
+        unreadCounter.get(1L);
+
+        unreadCounter.increment(Map.of(1L, 3L));
+        assertThat(unreadCounter.get(1L)).isEqualTo(5L);
+
+        unreadCounter.onNotificationRead(new NotificationReadEvent(1L, 1));
+        assertThat(unreadCounter.get(1L)).isEqualTo(4L);
+
+        unreadCounter.onNotificationRead(new NotificationReadEvent(1L, 10));
+        assertThat(unreadCounter.get(1L)).isZero();
+        verify(notificationRepository, times(1)).countByReceiverIdAndIsReadFalse(1L);
+    }
+
+    @Test
+    @DisplayName("캐시가 없을 때의 증감은 무시하고, 다음 조회에서 DB 기준으로 채운다")
+    void increment_WithoutCache_Ignored() {
+        unreadCounter.increment(Map.of(2L, 1L));
+        unreadCounter.onNotificationRead(new NotificationReadEvent(2L, 1));
+
+        assertThat(redisTemplate.hasKey(NotificationUnreadCounter.KEY_PREFIX + 2L)).isFalse();
+
+        given(notificationRepository.countByReceiverIdAndIsReadFalse(2L)).willReturn(6L);
+        assertThat(unreadCounter.get(2L)).isEqualTo(6L);
+    }
+}
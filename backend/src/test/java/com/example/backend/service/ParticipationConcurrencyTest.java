@@ -0,0 +1,143 @@
+package com.example.backend.service;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.entity.Category;
+import com.example.backend.entity.MeetingPost;
+import com.example.backend.entity.Member;
+import com.example.backend.entity.Participation;
+import com.example.backend.enums.MemberStatus;
+import com.example.backend.enums.ParticipationRole;
+import com.example.backend.enums.ParticipationStatus;
+import com.example.backend.enums.Role;
+import com.example.backend.repository.CategoryRepository;
+import com.example.backend.repository.MeetingPostRepository;
+import com.example.backend.repository.MemberRepository;
+import com.example.backend.repository.ParticipationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좌석 초과 모집 방지 스트레스 테스트
+ * 각 스레드가 실제 트랜잭션을 커밋해야 하므로 테스트 트랜잭션(롤백)은 사용하지 않습니다.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:seatdb;MODE=MySQL;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ParticipationService.class)
+class ParticipationConcurrencyTest {
+
+    private static final int CAPACITY = 50;
+    private static final int REQUEST_COUNT = 500;
+
+    @Autowired private ParticipationService participationService;
+    @Autowired private ParticipationRepository participationRepository;
+    @Autowired private MeetingPostRepository meetingPostRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private CategoryRepository categoryRepository;
+
+    @MockitoBean private NotificationService notificationService;
+
+    @Test
+    @DisplayName("딥 테스트: 500건의 승인 요청이 동시에 들어와도 정원(50명)을 절대 넘지 않는다")
+    void accept_500Concurrent_NoOverbooking() throws InterruptedException {
+        // given - 방장 1명(현재 인원 1) + 신청자 500명
+        Member host = memberRepository.save(createMember("host"));
+        Category category = categoryRepository.save(Category.builder().name("동시성").build());
+        MeetingPost post = meetingPostRepository.save(MeetingPost.builder()
+                .title("선착순 모임")
+                .description("동시 승인 테스트")
+                .capacity(CAPACITY)
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(2))
+                .creator(host)
+                .category(category)
+                .build());
+
+        List<Long> participationIds = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            Member applicant = memberRepository.save(createMember("applicant" + i));
+            Participation participation = participationRepository.save(Participation.builder()
+                    .member(applicant)
+                    .meetingPost(post)
+                    .role(ParticipationRole.PARTICIPANT)
+                    .status(ParticipationStatus.APPLIED)
+                    .joinReason("참여 희망")
+                    .build());
+            participationIds.add(participation.getId());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejectedAsFull = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        // when - 모든 요청을 동시에 출발
+        for (Long participationId : participationIds) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    participationService.updateParticipationStatus(participationId, "ACCEPTED", host.getId());
+                    accepted.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getErrorCode() == ErrorCode.MEETING_FULL) {
+                        rejectedAsFull.incrementAndGet();
+                    } else {
+                        unexpected.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    unexpected.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // then
+        MeetingPost result = meetingPostRepository.findById(post.getId()).orElseThrow();
+        long acceptedInDb = participationRepository.countByMeetingPostAndStatus(result, ParticipationStatus.ACCEPTED);
+
+        assertThat(unexpected.get()).isZero();
+        assertThat(accepted.get()).isEqualTo(CAPACITY - 1);
+        assertThat(rejectedAsFull.get()).isEqualTo(REQUEST_COUNT - (CAPACITY - 1));
+        assertThat(result.getCurrentParticipants()).isEqualTo(CAPACITY);
+        assertThat(acceptedInDb).isEqualTo(CAPACITY - 1); // 실패한 요청의 상태 변경은 롤백됨
+    }
+
+    private Member createMember(String name) {
+        return Member.builder()
+                .nickname(name)
+                .email(name + "@test.com")
+                .password("encoded_password")
+                .role(Role.ROLE_USER)
+                .status(MemberStatus.ACTIVE)
+                .points(0)
+                .level(1)
+                .build();
+    }
+}
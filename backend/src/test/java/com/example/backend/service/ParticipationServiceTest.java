@@ -16,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.ApplicationEventPublisher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,6 +30,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +43,7 @@ class ParticipationServiceTest {
     @Mock private ParticipationRepository participationRepository;
     @Mock private MeetingPostRepository meetingPostRepository;
     @Mock private MemberRepository memberRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private Member organizer;
     private Member applicant;
@@ -157,6 +160,8 @@ class ParticipationServiceTest {
         ReflectionTestUtils.setField(participation, "id", partId);
 
         given(participationRepository.findById(partId)).willReturn(Optional.of(participation));
+        given(participationRepository.updateStatusIfChanged(partId, ParticipationStatus.ACCEPTED)).willReturn(1);
+        given(meetingPostRepository.claimSeat(100L)).willReturn(1);
 
         // when
         Long resultId = participationService.updateParticipationStatus(partId, "ACCEPTED", hostId);
@@ -164,5 +169,43 @@ class ParticipationServiceTest {
         // then
         assertThat(resultId).isEqualTo(partId); // 이제 null이 아니라 500L이 기대됩니다.
         assertThat(participation.getStatus()).isEqualTo(ParticipationStatus.ACCEPTED);
+        verify(meetingPostRepository).claimSeat(100L);
+    }
+
+    @Test
+    @DisplayName("참여 승인 실패: 좌석 확보(claimSeat)에 실패하면 MEETING_FULL 예외가 발생하고 알림은 보내지 않는다")
+    void updateStatus_fail_full() {
+        Participation participation = Participation.builder()
+                .meetingPost(meetingPost)
+                .member(applicant)
+                .status(ParticipationStatus.APPLIED)
+                .build();
+        ReflectionTestUtils.setField(participation, "id", 500L);
+
+        given(participationRepository.findById(500L)).willReturn(Optional.of(participation));
+        given(participationRepository.updateStatusIfChanged(500L, ParticipationStatus.ACCEPTED)).willReturn(1);
+        given(meetingPostRepository.claimSeat(100L)).willReturn(0);
+
+        assertThatThrownBy(() -> participationService.updateParticipationStatus(500L, "ACCEPTED", 999L))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MEETING_FULL);
+        verify(notificationService, never()).createNotification(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("중복 승인: 이미 승인된 신청이면 좌석을 다시 확보하지 않는다")
+    void updateStatus_duplicateAccept_noSeatClaim() {
+        Participation participation = Participation.builder()
+                .meetingPost(meetingPost)
+                .status(ParticipationStatus.ACCEPTED)
+                .build();
+        ReflectionTestUtils.setField(participation, "id", 500L);
+
+        given(participationRepository.findById(500L)).willReturn(Optional.of(participation));
+        given(participationRepository.updateStatusIfChanged(500L, ParticipationStatus.ACCEPTED)).willReturn(0);
+
+        participationService.updateParticipationStatus(500L, "ACCEPTED", 999L);
+
+        verify(meetingPostRepository, never()).claimSeat(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.example.backend.service;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.entity.Category;
+import com.example.backend.entity.Region;
+import com.example.backend.repository.CategoryRepository;
+import com.example.backend.repository.RegionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class ReferenceDataCacheTest {
+
+    private CategoryRepository categoryRepository;
+    private RegionRepository regionRepository;
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        regionRepository = mock(RegionRepository.class);
+        referenceDataCache = new ReferenceDataCache(categoryRepository, regionRepository, Duration.ofHours(1));
+
+        given(categoryRepository.findAll()).willReturn(List.of(category(2L, "운동"), category(1L, "개발")));
+        given(regionRepository.findAll()).willReturn(List.of(Region.builder().id(10L).name("서울").build()));
+    }
+
+    @Test
+    @DisplayName("기동 시 미리 읽어두면 이후 조회는 DB를 다시 호출하지 않는다")
+    void warmUp_ThenLookups_NoDatabaseAccess() {
+        referenceDataCache.warmUp();
+
+        assertThat(referenceDataCache.getCategories().categories())
+                .extracting(Category::getName).containsExactly("개발", "운동");
+        assertThat(referenceDataCache.getCategory(2L).getName()).isEqualTo("운동");
+        assertThat(referenceDataCache.getRegion(10L).getName()).isEqualTo("서울");
+
+        verify(categoryRepository, times(1)).findAll();
+        verify(categoryRepository, never()).findById(anyLong());
+        verify(regionRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 ID는 DB에서 읽어 채우고, 존재하지 않으면 CATEGORY_NOT_FOUND")
+    void getCategory_Miss_ReadThrough() {
+        referenceDataCache.warmUp();
+        given(categoryRepository.findById(3L)).willReturn(Optional.of(category(3L, "독서")));
+        given(categoryRepository.findById(99L)).willReturn(Optional.empty());
+
+        assertThat(referenceDataCache.getCategory(3L).getName()).isEqualTo("독서");
+        assertThat(referenceDataCache.getCategory(3L).getName()).isEqualTo("독서");
+        assertThatThrownBy(() -> referenceDataCache.getCategory(99L)).isInstanceOf(CustomException.class);
+
+        verify(categoryRepository, times(1)).findById(3L);
+    }
+
+    @Test
+    @DisplayName("목록 내용이 같으면 ETag도 같다")
+    void getCategories_SameContent_SameEtag() {
+        String first = referenceDataCache.getCategories().etag();
+        String second = new ReferenceDataCache(categoryRepository, regionRepository, Duration.ofHours(1))
+                .getCategories().etag();
+
+        assertThat(first).isEqualTo(second).startsWith("\"").endsWith("\"");
+    }
+
+    private Category category(Long id, String name) {
+        Category category = new Category(name);
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+}
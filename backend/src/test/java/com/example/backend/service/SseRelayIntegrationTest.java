@@ -0,0 +1,216 @@
+package com.example.backend.service;
+
+import com.example.backend.common.config.RedisConfig;
+import com.example.backend.common.security.TokenBlacklist;
+import com.example.backend.common.security.TokenBlacklistSubscriber;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 백엔드 인스턴스 2대를 흉내 낸 두 개의 ApplicationContext가 같은 Redis를 공유할 때,
+ * A 인스턴스에서 보낸 알림이 B 인스턴스에 연결된 사용자에게 전달되는지 검증합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SseRelayIntegrationTest {
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에 연결된 사용자에게도 Redis 중계를 통해 알림이 전달된다")
+    void send_FromOtherNode_DeliveredByOwnerNode() throws InterruptedException {
+        // given - 회원 1은 B 인스턴스에 연결
+        RecordingSseService serviceA = nodeA.getBean(RecordingSseService.class);
+        RecordingSseService serviceB = nodeB.getBean(RecordingSseService.class);
+        serviceB.subscribe(1L);
+        serviceB.reset(1);
+
+        // when - A 인스턴스에서 알림 발생
+        serviceA.send(1L, "newNotification", "참여가 승인되었습니다!");
+
+        // then
+        assertThat(serviceB.await()).isTrue();
+        assertThat(serviceB.delivered).containsExactly("1:newNotification:참여가 승인되었습니다!");
+        assertThat(serviceA.delivered).isEmpty(); // A에는 연결이 없으므로 전송 없음
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스에 연결된 사용자에게는 바로 전송되고, 자기가 발행한 중계 메시지로 다시 보내지 않는다")
+    void send_LocalNode_DeliveredOnce() throws InterruptedException {
+        RecordingSseService serviceA = nodeA.getBean(RecordingSseService.class);
+        RecordingSseService serviceB = nodeB.getBean(RecordingSseService.class);
+        serviceA.subscribe(2L);
+        serviceA.reset(1);
+        serviceB.reset(1);
+
+        serviceA.send(2L, "newNotification", "로컬 알림");
+
+        assertThat(serviceA.await()).isTrue();
+        assertThat(serviceB.await(500)).isFalse(); // B는 아무것도 받지 않음
+        assertThat(serviceA.delivered).containsExactly("2:newNotification:로컬 알림");
+    }
+
+    @Test
+    @DisplayName("한 회원의 기기가 두 인스턴스에 나뉘어 연결되어 있으면 양쪽 기기 모두 한 번씩 받는다")
+    void send_MemberOnBothNodes_DeliveredToEveryDevice() throws InterruptedException {
+        // given - 회원 4의 휴대폰은 A, 노트북은 B에 연결
+        RecordingSseService serviceA = nodeA.getBean(RecordingSseService.class);
+        RecordingSseService serviceB = nodeB.getBean(RecordingSseService.class);
+        serviceA.subscribe(4L);
+        serviceB.subscribe(4L);
+        serviceA.reset(1);
+        serviceB.reset(1);
+
+        // when - A 인스턴스에서 알림 발생 (A에도 로컬 연결이 있음)
+        serviceA.send(4L, "newNotification", "여러 기기 알림");
+
+        // then - A는 로컬 전송, B는 중계로 전송 (A는 자기가 발행한 메시지를 다시 보내지 않음)
+        assertThat(serviceA.await()).isTrue();
+        assertThat(serviceB.await()).isTrue();
+        Thread.sleep(300); // 중복 전송이 뒤늦게 오지 않는지 확인
+        assertThat(serviceA.delivered).containsExactly("4:newNotification:여러 기기 알림");
+        assertThat(serviceB.delivered).containsExactly("4:newNotification:여러 기기 알림");
+        assertThat(serviceB.eventIds).isEqualTo(serviceA.eventIds);
+    }
+
+    @Test
+    @DisplayName("연결된 인스턴스가 내려간 동안 발생한 알림은 다른 인스턴스로 재연결 시 Last-Event-ID 이후분만 재전송된다")
+    void subscribe_Reconnect_ReplaysOnlyMissedEvents() throws InterruptedException {
+        RecordingSseService serviceA = nodeA.getBean(RecordingSseService.class);
+        RecordingSseService serviceB = nodeB.getBean(RecordingSseService.class);
+
+        // given - A에 연결된 상태에서 1건 수신
+        serviceA.subscribe(3L);
+        serviceA.reset(1);
+        serviceA.send(3L, "newNotification", "받은 알림");
+        assertThat(serviceA.await()).isTrue();
+        Long lastEventId = serviceA.eventIds.get(0);
+
+        // A 인스턴스 종료(배포 등) -> 연결이 없는 사이 2건 발생
+        nodeA.close();
+        serviceB.send(3L, "newNotification", "놓친 알림1");
+        serviceB.send(3L, "newNotification", "놓친 알림2");
+
+        // when - B 인스턴스로 재연결
+        serviceB.reset(2);
+        serviceB.subscribe(3L, String.valueOf(lastEventId));
+
+        // then
+        assertThat(serviceB.await()).isTrue();
+        assertThat(serviceB.delivered).containsExactly(
+                "3:newNotification:놓친 알림1",
+                "3:newNotification:놓친 알림2");
+        assertThat(serviceB.eventIds).allMatch(id -> id > lastEventId).isSorted();
+    }
+
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("redis", Map.of(
+                "spring.data.redis.host", REDIS.getHost(),
+                "spring.data.redis.port", REDIS.getMappedPort(6379),
+                "spring.data.redis.password", "")));
+        context.register(NodeConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    @Import({RedisConfig.class, SseRedisSubscriber.class, TokenBlacklist.class, TokenBlacklistSubscriber.class})
+    static class NodeConfig {
+
+        @Bean
+        StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+            return new StringRedisTemplate(connectionFactory);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        SseEventBuffer sseEventBuffer(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+            return new SseEventBuffer(redisTemplate, objectMapper);
+        }
+
+        @Bean
+        RecordingSseService sseService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                       SseEventBuffer eventBuffer) {
+            return new RecordingSseService(redisTemplate, objectMapper, eventBuffer);
+        }
+    }
+
+    // 실제 전송 대신 어떤 이벤트가 이 인스턴스에서 전달되었는지 기록
+    static class RecordingSseService extends SseService {
+        final List<String> delivered = new CopyOnWriteArrayList<>();
+        final List<Long> eventIds = new CopyOnWriteArrayList<>();
+        private CountDownLatch latch = new CountDownLatch(0);
+
+        RecordingSseService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, SseEventBuffer eventBuffer) {
+            super(redisTemplate, objectMapper, eventBuffer, Runnable::run, 5);
+        }
+
+        @Override
+        boolean sendTo(Long memberId, Connection connection, Long eventId, String eventName, Object data) {
+            boolean sent = super.sendTo(memberId, connection, eventId, eventName, data);
+            if (sent && !"connect".equals(eventName)) {
+                eventIds.add(eventId);
+                delivered.add(memberId + ":" + eventName + ":" + data);
+                latch.countDown();
+            }
+            return sent;
+        }
+
+        void reset(int expected) {
+            delivered.clear();
+            eventIds.clear();
+            latch = new CountDownLatch(expected);
+        }
+
+        boolean await() throws InterruptedException {
+            return await(5000);
+        }
+
+        boolean await(long millis) throws InterruptedException {
+            return latch.await(millis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
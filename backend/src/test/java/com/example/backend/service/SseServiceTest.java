@@ -1,25 +1,42 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.SseMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 class SseServiceTest {
 
+    private static final int MAX_CONNECTIONS = 3;
+
     private SseService sseService;
+    private StringRedisTemplate redisTemplate;
+    private SseEventBuffer eventBuffer;
 
     @BeforeEach
     void setUp() {
-        sseService = new SseService();
+        redisTemplate = mock(StringRedisTemplate.class);
+        eventBuffer = mock(SseEventBuffer.class);
+        sseService = new SseService(redisTemplate, new ObjectMapper(), eventBuffer,
+                Executors.newFixedThreadPool(4), MAX_CONNECTIONS);
     }
 
     @Test
@@ -37,20 +54,55 @@ class SseServiceTest {
     }
 
     @Test
-    @DisplayName("중복 구독 시 - 기존 연결은 종료(교체)되고 맵의 크기는 1로 유지되어야 한다")
-    void subscribe_Duplicate_ShouldReplaceOldOne() {
+    @DisplayName("다른 기기에서 중복 구독 시 - 기존 연결을 끊지 않고 둘 다 유지한다")
+    void subscribe_Duplicate_KeepsBothDevices() {
         // given
         Long memberId = 1L;
-        SseEmitter oldEmitter = sseService.subscribe(memberId);
+        SseEmitter phone = sseService.subscribe(memberId);
         assertEquals(1, sseService.getEmittersSize());
 
         // when
-        SseEmitter newEmitter = sseService.subscribe(memberId);
+        SseEmitter laptop = sseService.subscribe(memberId);
+
+        // then
+        assertNotSame(phone, laptop);
+        assertNotNull(laptop);
+        assertEquals(2, sseService.getEmittersSize());
+        assertDoesNotThrow(() -> phone.send(SseEmitter.event().comment("still open"))); // 기존 연결은 종료되지 않음
+    }
+
+    @Test
+    @DisplayName("연결 수 제한 초과 시 - 가장 오래된 연결만 종료하고 최대 개수를 유지한다")
+    void subscribe_OverLimit_EvictsOldest() {
+        // given
+        SseEmitter oldest = sseService.subscribe(1L);
+        for (int i = 1; i < MAX_CONNECTIONS; i++) {
+            sseService.subscribe(1L);
+        }
+
+        // when
+        sseService.subscribe(1L);
+
+        // then
+        assertEquals(MAX_CONNECTIONS, sseService.getEmittersSize());
+        assertThrows(IllegalStateException.class, () -> oldest.send(SseEmitter.event().comment("closed")));
+    }
+
+    @Test
+    @DisplayName("여러 기기 전송: 한 연결이 끊겨 있어도 나머지 기기에는 전송되고, 끊긴 연결만 제거된다")
+    void send_MultiDevice_DeadConnectionRemovedOthersDelivered() {
+        // given
+        SseService spy = spy(sseService);
+        spy.subscribe(1L);
+        spy.subscribe(1L).complete(); // 닫힌 연결
+        spy.subscribe(1L);
+
+        // when
+        assertDoesNotThrow(() -> spy.send(1L, "newNotification", "알림"));
 
         // then
-        assertNotSame(oldEmitter, newEmitter);
-        assertNotNull(newEmitter);
-        assertEquals(1, sseService.getEmittersSize()); // 누수 없이 1개만 유지되는지 확인
+        verify(spy, times(3)).sendTo(eq(1L), any(), any(), eq("newNotification"), eq("알림"));
+        assertEquals(2, spy.getEmittersSize());
     }
 
     @Test
@@ -72,6 +124,164 @@ class SseServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("로컬 연결이 있으면 바로 전송하고, 다른 인스턴스에 연결된 기기를 위해 Redis 채널에도 발행한다")
+    void send_LocalEmitter_DeliversAndPublishes() {
+        sseService.subscribe(1L);
+        SseService spy = spy(sseService);
+
+        spy.send(1L, "testEvent", "testData");
+
+        verify(spy).sendTo(eq(1L), any(), any(), eq("testEvent"), eq("testData"));
+        verify(redisTemplate).convertAndSend(eq(SseService.CHANNEL), contains("\"memberId\":1"));
+    }
+
+    @Test
+    @DisplayName("로컬 연결이 모두 끊겨 전송에 실패해도 예외 없이 Redis 채널에 발행한다")
+    void send_AllLocalSendsFail_StillPublishes() {
+        sseService.subscribe(1L).complete(); // 닫힌 연결
+
+        assertDoesNotThrow(() -> sseService.send(1L, "newNotification", "알림"));
+
+        assertEquals(0, sseService.getEmittersSize());
+        verify(redisTemplate).convertAndSend(eq(SseService.CHANNEL), contains("\"memberId\":1"));
+    }
+
+    @Test
+    @DisplayName("로컬 연결이 없으면 다른 인스턴스를 위해 Redis 채널에 발행한다")
+    void send_NoLocalEmitter_PublishesToChannel() {
+        sseService.send(999L, "newNotification", "알림");
+
+        verify(redisTemplate).convertAndSend(eq(SseService.CHANNEL), contains("\"memberId\":999"));
+    }
+
+    @Test
+    @DisplayName("자기 자신이 발행한 중계 메시지는 다시 전송하지 않는다")
+    void handleRelayed_IgnoresOwnMessage() {
+        // given - 발행된 payload를 가로채서 그대로 되돌려 받는다
+        sseService.send(1L, "newNotification", "알림");
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(SseService.CHANNEL), payload.capture());
+
+        sseService.subscribe(1L); // 이후 연결이 생겨도
+        SseService spy = spy(sseService);
+
+        // when
+        assertDoesNotThrow(() -> spy.handleRelayed(readMessage(payload.getValue())));
+
+        // then
+        verify(spy, never()).deliverLocally(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("전송 시 버퍼에서 발급한 이벤트 ID를 함께 실어 보낸다 (다른 인스턴스로 중계될 때도 유지)")
+    void send_AssignsEventIdFromBuffer() {
+        given(eventBuffer.append(999L, "newNotification", "알림")).willReturn(7L);
+
+        sseService.send(999L, "newNotification", "알림");
+
+        verify(redisTemplate).convertAndSend(eq(SseService.CHANNEL), contains("\"eventId\":7"));
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID 이후 이벤트만 버퍼에서 꺼내 재전송한다")
+    void subscribe_WithLastEventId_ReplaysMissedEvents() {
+        // given
+        given(eventBuffer.readAfter(1L, 5L)).willReturn(new SseEventBuffer.Replay(List.of(
+                new SseMessage(null, 6L, 1L, "newNotification", "놓친 알림1"),
+                new SseMessage(null, 8L, 1L, "newNotification", "놓친 알림2")), false));
+        SseService spy = spy(sseService);
+
+        // when
+        spy.subscribe(1L, "5");
+
+        // then
+        InOrder inOrder = inOrder(spy);
+        inOrder.verify(spy).sendTo(eq(1L), any(), isNull(), eq("connect"), any());
+        inOrder.verify(spy).sendTo(eq(1L), any(), eq(6L), eq("newNotification"), eq("놓친 알림1"));
+        inOrder.verify(spy).sendTo(eq(1L), any(), eq(8L), eq("newNotification"), eq("놓친 알림2"));
+        verify(spy, never()).sendTo(any(), any(), any(), eq("resync"), any());
+    }
+
+    @Test
+    @DisplayName("버퍼보다 많이 놓쳤으면 resync 이벤트로 목록 재조회를 안내한다")
+    void subscribe_ReplayTruncated_SendsResync() {
+        given(eventBuffer.readAfter(1L, 1L)).willReturn(new SseEventBuffer.Replay(List.of(), true));
+        SseService spy = spy(sseService);
+
+        spy.subscribe(1L, "1");
+
+        verify(spy).sendTo(eq(1L), any(), isNull(), eq("resync"), any());
+    }
+
+    @Test
+    @DisplayName("최초 연결이거나 Last-Event-ID가 숫자가 아니면 버퍼를 조회하지 않는다")
+    void subscribe_WithoutValidLastEventId_NoReplay() {
+        sseService.subscribe(1L);
+        sseService.subscribe(2L, "not-a-number");
+
+        verify(eventBuffer, never()).readAfter(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("하트비트: 쓰기에 실패한 연결만 정리하고, 정리 건수와 연결 수를 지표로 노출한다")
+    void sendHeartbeat_ReapsDeadEmitters() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sseService.bindTo(registry);
+        sseService.subscribe(1L);
+        SseEmitter dead = sseService.subscribe(2L);
+        dead.complete(); // 이미 닫힌 연결 -> 이후 쓰기 시 IllegalStateException
+
+        // when - 모든 슬라이스를 한 바퀴 돌림
+        for (int i = 0; i < SseService.HEARTBEAT_SLICES; i++) {
+            sseService.sendHeartbeat();
+        }
+
+        // then
+        assertEquals(1, sseService.getEmittersSize());
+        assertEquals(1.0, registry.get("sse.emitters.reaped").functionCounter().count());
+        assertEquals(1.0, registry.get("sse.emitters.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("전송 지표: 연결별 전송 성공/실패와 Redis 중계 발행 수를 집계한다")
+    void send_RecordsMetrics() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sseService.bindTo(registry);
+        sseService.subscribe(1L);             // connect 이벤트 전송 성공
+        sseService.subscribe(1L).complete();  // connect 이벤트 전송 성공 후 닫힌 연결
+
+        // when
+        sseService.send(1L, "newNotification", "알림"); // 성공 1, 실패 1 + 중계 발행
+        sseService.send(999L, "newNotification", "알림"); // 로컬 연결 없음 -> 중계 발행
+
+        // then
+        assertEquals(3.0, registry.get("sse.sends").tag("result", "success").functionCounter().count());
+        assertEquals(1.0, registry.get("sse.sends").tag("result", "failure").functionCounter().count());
+        assertEquals(2.0, registry.get("sse.relay.published").tag("result", "success").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("하트비트는 한 번에 전체가 아니라 슬라이스 단위로 나눠 보낸다")
+    void sendHeartbeat_OneSlicePerTick() {
+        // given - 슬라이스 수만큼의 닫힌 연결 (회원 ID가 슬라이스마다 하나씩)
+        for (long memberId = 0; memberId < SseService.HEARTBEAT_SLICES; memberId++) {
+            sseService.subscribe(memberId).complete();
+        }
+
+        // when
+        sseService.sendHeartbeat();
+
+        // then - 첫 슬라이스에 속한 1건만 정리됨
+        assertEquals(SseService.HEARTBEAT_SLICES - 1, sseService.getEmittersSize());
+    }
+
+    private SseMessage readMessage(String payload) throws Exception {
+        return new ObjectMapper().readValue(payload, SseMessage.class);
+    }
+
     @Test
     @DisplayName("딥 테스트: 100명의 사용자가 동시에 구독해도 데이터 유실 없이 정확히 저장되어야 한다")
     void subscribe_Concurrency_100Users_Test() throws InterruptedException {
@@ -99,7 +309,7 @@ class SseServiceTest {
     }
 
     @Test
-    @DisplayName("딥 테스트: 동일 사용자가 동시에 여러 번 구독 요청을 보낼 때 최종적으로 1개만 남아야 한다")
+    @DisplayName("딥 테스트: 동일 사용자가 동시에 여러 번 구독 요청을 보내도 연결 수 제한만큼만 남아야 한다")
     void subscribe_Concurrency_SameUser_Test() throws InterruptedException {
         // given
         int threadCount = 50;
@@ -120,7 +330,7 @@ class SseServiceTest {
         latch.await();
 
         // then
-        assertEquals(1, sseService.getEmittersSize()); // 동시 요청에도 단 하나만 남음으로써 누수 방지 증명
+        assertEquals(MAX_CONNECTIONS, sseService.getEmittersSize()); // 동시 요청에도 제한을 넘지 않음으로써 누수 방지 증명
         executorService.shutdown();
     }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.ViewCountFlush;
+import com.example.backend.repository.MeetingPostRepository;
+import com.example.backend.repository.ViewCountFlushRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountManagerTest {
+
+    @InjectMocks private ViewCountManager viewCountManager;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private MeetingPostRepository meetingPostRepository;
+    @Mock private ViewCountFlushRepository viewCountFlushRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("로그인 사용자는 회원 ID로 중복을 판단하고 쿠키를 발급하지 않는다")
+    void recordView_Member() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(3L);
+
+        long pending = viewCountManager.recordView(100L, 1L, request, response);
+
+        assertThat(pending).isEqualTo(3L);
+        assertThat(response.getCookies()).isEmpty();
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("m:1"), any(), eq("100"));
+    }
+
+    @Test
+    @DisplayName("비로그인 최초 방문 시 고정 길이 viewerId 쿠키를 발급한다")
+    void recordView_NewGuest_IssuesCookie() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(1L);
+
+        viewCountManager.recordView(100L, null, request, response);
+
+        Cookie cookie = response.getCookie("viewerId");
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).hasSize(36); // UUID
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("g:" + cookie.getValue()), any(), eq("100"));
+    }
+
+    @Test
+    @DisplayName("기존 viewerId 쿠키가 있으면 재사용한다 (글을 많이 봐도 쿠키 길이는 그대로)")
+    void recordView_ExistingGuest_ReusesCookie() {
+        request.setCookies(new Cookie("viewerId", "guest-1"));
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(0L);
+
+        viewCountManager.recordView(100L, null, request, response);
+
+        assertThat(response.getCookie("viewerId")).isNull();
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("g:guest-1"), any(), eq("100"));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 상세 조회는 실패하지 않고 증가분 0을 반환한다")
+    void recordView_RedisDown() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(viewCountManager.recordView(100L, 1L, request, response)).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: PENDING을 FLUSHING으로 옮긴 뒤 게시글별로 한 번씩 UPDATE 하고, 반영 기록을 남긴 뒤 FLUSHING을 삭제한다")
+    void flush_AppliesPendingCounts() {
+        givenFlushLockAcquired();
+        givenFlushingRun("run-1", Map.of("100", "5", "200", "1", "run", "run-1"));
+        given(viewCountFlushRepository.existsById("run-1")).willReturn(false);
+
+        viewCountManager.flush();
+
+        verify(meetingPostRepository).addViewCount(100L, 5);
+        verify(meetingPostRepository).addViewCount(200L, 1);
+        verifyNoMoreInteractions(meetingPostRepository);
+        verify(viewCountFlushRepository).save(argThat((ViewCountFlush flush) -> flush.getRunId().equals("run-1")));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("VIEW:FLUSHING")), eq("run-1"));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("flush: 이미 DB에 반영된 묶음이면(지난번 FLUSHING 삭제 실패) 다시 더하지 않고 FLUSHING만 삭제한다")
+    void flush_AlreadyAppliedRun_SkipsUpdate() {
+        givenFlushLockAcquired();
+        givenFlushingRun("run-1", Map.of("100", "5", "run", "run-1"));
+        given(viewCountFlushRepository.existsById("run-1")).willReturn(true);
+
+        viewCountManager.flush();
+
+        verifyNoInteractions(meetingPostRepository);
+        verify(viewCountFlushRepository, never()).save(any());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("VIEW:FLUSHING")), eq("run-1"));
+    }
+
+    @Test
+    @DisplayName("flush: 락은 획득할 때 넣은 토큰으로만 해제한다")
+    void flush_ReleasesOwnLockOnly() {
+        givenFlushLockAcquired();
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).willReturn(null); // 반영할 증가분 없음
+
+        viewCountManager.flush();
+
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq("VIEW:FLUSH_LOCK"), token.capture(), any(Duration.class));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("VIEW:FLUSH_LOCK")), eq(token.getValue()));
+        verify(redisTemplate, never()).delete(anyString());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("flush: 다른 인스턴스가 반영 중이면 아무것도 하지 않는다")
+    void flush_SkipsWhenLocked() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("VIEW:FLUSH_LOCK"), anyString(), any(Duration.class))).willReturn(false);
+
+        viewCountManager.flush();
+
+        verify(redisTemplate, never()).rename(anyString(), anyString());
+        verifyNoInteractions(meetingPostRepository);
+    }
+
+    private void givenFlushLockAcquired() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("VIEW:FLUSH_LOCK"), anyString(), any(Duration.class))).willReturn(true);
+    }
+
+    private void givenFlushingRun(String runId, Map<Object, Object> entries) {
+        // PENDING -> FLUSHING 준비 스크립트만 묶음 ID를 반환 (완료/락 해제 스크립트는 null)
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).willAnswer(invocation ->
+                List.of("VIEW:PENDING", "VIEW:FLUSHING").equals(invocation.getArgument(1)) ? runId : null);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries("VIEW:FLUSHING")).willReturn(entries);
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.ssegateway;
+
+import com.example.backend.common.security.JwtTokenProvider;
+import com.example.backend.service.SseEventBuffer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+
+/**
+ * 백엔드 모듈에서 가져다 쓰는 빈 + Redis 구독 설정
+ * 백엔드 패키지(com.example.backend)는 컴포넌트 스캔 대상이 아니므로 필요한 것만 @Import 합니다.
+ * (Redis 연결/ObjectMapper는 스프링 부트 자동 구성 - spring.data.redis.*)
+ */
+@Configuration
+@Import({JwtTokenProvider.class, SseEventBuffer.class})
+public class GatewayConfig {
+
+    /**
+     * Pub/Sub 전용 연결 하나로 sse:events 구독
+     */
+    @Bean
+    public ReactiveRedisMessageListenerContainer reactiveRedisMessageListenerContainer(
+            ReactiveRedisConnectionFactory connectionFactory) {
+        return new ReactiveRedisMessageListenerContainer(connectionFactory);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.ssegateway;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.CustomJwtException;
+import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.common.exception.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 백엔드 GlobalExceptionHandler와 같은 에러 응답 형식 ({status, code, message})
+ * 구독 요청은 Accept: text/event-stream 이라 그대로 두면 에러 본문도 SSE로 직렬화되므로 JSON으로 고정합니다.
+ * 토큰 검증 실패(CustomJwtException)는 백엔드 JwtAuthenticationFilter와 같은 코드로 응답합니다.
+ */
+@RestControllerAdvice
+@Slf4j
+public class GatewayExceptionHandler {
+
+    @ExceptionHandler(CustomException.class)
+    protected ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.warn("CustomException: {} ({})", errorCode.getMessage(), errorCode.getCode());
+
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.builder()
+                        .status(errorCode.getStatus())
+                        .code(errorCode.getCode())
+                        .message(errorCode.getMessage())
+                        .build());
+    }
+
+    @ExceptionHandler(CustomJwtException.class)
+    protected ResponseEntity<ErrorResponse> handleCustomJwtException(CustomJwtException e) {
+        log.warn("JWT 인증 실패 - 코드: {}", e.getErrorCode());
+
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponse.builder()
+                        .status(HttpStatus.UNAUTHORIZED.value())
+                        .code(e.getErrorCode())
+                        .message(e.getMessage())
+                        .build());
+    }
+}
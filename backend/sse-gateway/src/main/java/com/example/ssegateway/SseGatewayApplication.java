@@ -0,0 +1,22 @@
+package com.example.ssegateway;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * SSE 전용 리액티브 게이트웨이
+ *
+ * 서블릿 SseEmitter는 구독자마다 Tomcat 비동기 요청 컨텍스트를 최대 1시간 붙잡고 있어,
+ * 알림 스트림(/api/subscribe)만 Netty 이벤트 루프 위의 WebFlux로 분리합니다.
+ * - 인증: 백엔드와 같은 JwtTokenProvider 검증 + Redis 블랙리스트(BL:{jti}) 확인
+ * - 이벤트: 백엔드가 발행하는 Redis 채널(sse:events)을 구독해 회원별로 전달
+ *   (백엔드는 모든 이벤트를 항상 이 채널로 발행하므로 백엔드 쪽 변경 없음)
+ * - 재연결: Last-Event-ID 이후 이벤트를 SseEventBuffer(SSE:BUF:{memberId})에서 재전송
+ */
+@SpringBootApplication
+public class SseGatewayApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(SseGatewayApplication.class, args);
+    }
+}
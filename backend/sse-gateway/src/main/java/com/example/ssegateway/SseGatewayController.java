@@ -0,0 +1,46 @@
+package com.example.ssegateway;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequiredArgsConstructor
+public class SseGatewayController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final SubscriptionAuthenticator authenticator;
+    private final SubscriptionService subscriptionService;
+
+    /**
+     * SSE 실시간 알림 구독 (백엔드 SseController와 같은 요청/응답 계약)
+     * @param authorization     Authorization: Bearer {accessToken}
+     * @param tokenParam        EventSource는 헤더를 지정할 수 없어 쿼리 파라미터로 받는 토큰
+     * @param lastEventIdHeader 브라우저 자동 재연결 시 붙는 Last-Event-ID 헤더
+     * @param lastEventIdParam  수동 재연결용
+     * @return 인증 실패 시 첫 신호가 에러 -> 스트림 대신 401 JSON 응답 (GatewayExceptionHandler)
+     */
+    @GetMapping(value = "/api/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> subscribe(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestParam(value = "token", required = false) String tokenParam,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+
+        String token = (StringUtils.hasText(authorization) && authorization.startsWith(BEARER_PREFIX))
+                ? authorization.substring(BEARER_PREFIX.length())
+                : tokenParam;
+        String lastEventId = (lastEventIdHeader != null) ? lastEventIdHeader : lastEventIdParam;
+
+        return authenticator.authenticate(token)
+                .flatMapMany(memberId -> subscriptionService.subscribe(memberId, lastEventId));
+    }
+}
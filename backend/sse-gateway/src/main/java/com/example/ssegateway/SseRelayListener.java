@@ -0,0 +1,67 @@
+package com.example.ssegateway;
+
+import com.example.backend.dto.SseMessage;
+import com.example.backend.service.SseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 백엔드가 발행하는 SSE 이벤트(sse:events) 구독 -> 회원 연결로 전달
+ *
+ * 백엔드 SseService.send는 이벤트를 재전송 버퍼에 기록해 ID를 받은 뒤,
+ * 자기 인스턴스의 로컬 연결 전송 여부와 상관없이 항상 이 채널로 발행합니다. (게이트웨이에 연결된 기기도 같은 이벤트를 받음)
+ * Redis 연결이 끊기면 지수 백오프로 다시 구독하며, 그 사이 이벤트는 클라이언트 재연결 시 버퍼에서 재전송됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseRelayListener {
+
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final SubscriptionRegistry registry;
+    private final ObjectMapper objectMapper;
+
+    private Disposable subscription;
+
+    @PostConstruct
+    void start() {
+        subscription = listenerContainer.receive(ChannelTopic.of(SseService.CHANNEL))
+                .map(ReactiveSubscription.Message::getMessage)
+                .concatMap(this::parse)
+                .doOnNext(message -> registry.deliver(message.getMemberId(), SubscriptionService.event(message)))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("SSE 이벤트 채널 재구독 시도 ({}회)", signal.totalRetries() + 1, signal.failure())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private Mono<SseMessage> parse(String payload) {
+        try {
+            SseMessage message = objectMapper.readValue(payload, SseMessage.class);
+            return (message.getMemberId() == null) ? Mono.empty() : Mono.just(message);
+        } catch (IOException e) {
+            log.error("SSE 중계 메시지 해석 실패", e);
+            return Mono.empty();
+        }
+    }
+}
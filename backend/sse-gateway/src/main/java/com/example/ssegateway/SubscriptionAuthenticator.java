@@ -0,0 +1,81 @@
+package com.example.ssegateway;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.CustomJwtException;
+import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.common.security.JwtTokenProvider;
+import com.example.backend.common.security.TokenBlacklist;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * 구독 요청의 Access Token 검증 (백엔드 JwtAuthenticationFilter와 같은 규칙)
+ * 1. 서명/만료 검증 (JwtTokenProvider)
+ * 2. Authentication 이름을 회원 ID(Long)로 변환
+ * 3. 로그아웃된 토큰인지 Redis 블랙리스트 확인 (연결 시 한 번, 논블로킹)
+ *
+ * 1, 3단계 실패는 필터와 같은 코드(EXPIRED_TOKEN, INVALID_TOKEN, LOGOUT_TOKEN)로 응답합니다. (프론트는 EXPIRED_TOKEN이면 재발급 시도)
+ * 토큰이 없거나 회원 ID 형식이 아닌 경우는 백엔드 SseController처럼 ErrorCode 코드(AUTH_002)로 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionAuthenticator {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    /**
+     * @return 회원 ID (토큰이 유효하지 않으면 CustomJwtException, 없거나 회원 ID가 아니면 CustomException 에러 신호)
+     */
+    public Mono<Long> authenticate(String token) {
+        if (!StringUtils.hasText(token)) {
+            log.warn("인증되지 않은 사용자의 SSE 구독 시도");
+            return Mono.error(new CustomException(ErrorCode.INVALID_TOKEN));
+        }
+
+        return Mono.fromCallable(() -> verify(token))
+                .flatMap(verified -> redisTemplate.hasKey(TokenBlacklist.BL_PREFIX + verified.tokenId())
+                        .flatMap(blacklisted -> {
+                            if (Boolean.TRUE.equals(blacklisted)) {
+                                log.warn("로그아웃된 토큰으로 SSE 구독 시도: tokenId={}", verified.tokenId());
+                                return Mono.error(new CustomJwtException("LOGOUT_TOKEN", "이미 로그아웃된 토큰입니다."));
+                            }
+                            return Mono.just(verified.memberId());
+                        }));
+    }
+
+    // 서명 검증은 CPU 작업뿐이라 이벤트 루프에서 바로 수행
+    private VerifiedToken verify(String token) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseVerifiedClaims(token);
+        } catch (CustomException e) {
+            // 만료/변조 토큰 -> 필터처럼 ErrorCode 이름으로 응답
+            throw new CustomJwtException(e.getErrorCode().name(), e.getErrorCode().getMessage());
+        }
+
+        String name;
+        try {
+            name = jwtTokenProvider.getAuthentication(claims).getName();
+        } catch (RuntimeException e) {
+            // 권한/식별 정보가 빠진 토큰
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        try {
+            return new VerifiedToken(Long.valueOf(name), jwtTokenProvider.getTokenId(claims, token));
+        } catch (NumberFormatException e) {
+            log.error("Authentication Name이 유효한 ID 형식이 아닙니다: {}", name);
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    private record VerifiedToken(Long memberId, String tokenId) {
+    }
+}
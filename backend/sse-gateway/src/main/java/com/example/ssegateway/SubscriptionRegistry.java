@@ -0,0 +1,184 @@
+package com.example.ssegateway;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 구독 관리 (이 게이트웨이 인스턴스의 연결 목록)
+ *
+ * 회원마다 Sink 하나를 두고 그 회원의 모든 연결(기기)이 같은 Sink를 구독합니다.
+ * - 연결당 추가 큐 없음: directBestEffort는 받을 준비가 안 된(느린) 구독자에게는 해당 이벤트를 버림
+ *   -> 느린 클라이언트 때문에 메모리가 쌓이지 않고, 놓친 이벤트는 재연결 시 Last-Event-ID로 재전송
+ * - 전체 연결 수 상한(max-connections)을 넘으면 새 연결을 503으로 거절 -> 인스턴스 메모리 상한 고정
+ * - 회원당 연결 수 상한을 넘으면 가장 오래된 연결부터 종료 (백엔드 SseService와 같은 정책)
+ *
+ * 연결 목록 변경은 compute 안에서만 하고, 전송은 Sink에 맡기므로 락을 잡은 채 I/O 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class SubscriptionRegistry implements MeterBinder {
+
+    // Redis 구독 스레드와 다른 스레드가 같은 Sink에 동시에 넣는 드문 경우만 잠깐 재시도
+    private static final Sinks.EmitFailureHandler RETRY_NON_SERIALIZED =
+            Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+
+    private final Map<Long, MemberChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong ignoredCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    private final int maxConnections;
+    private final int maxConnectionsPerMember;
+
+    public SubscriptionRegistry(@Value("${sse.gateway.max-connections:100000}") int maxConnections,
+                                @Value("${sse.max-connections-per-member:5}") int maxConnectionsPerMember) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerMember = maxConnectionsPerMember;
+    }
+
+    /**
+     * 연결 등록 (반환된 Subscription이 끝나면 반드시 unregister 호출)
+     * @throws CustomException SSE_CAPACITY_EXCEEDED - 인스턴스 전체 연결 수 상한 초과
+     */
+    public Subscription register(Long memberId) {
+        if (activeCount.incrementAndGet() > maxConnections) {
+            activeCount.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            log.warn("SSE 게이트웨이 연결 수 상한({}) 초과로 구독을 거절합니다. memberId: {}", maxConnections, memberId);
+            throw new CustomException(ErrorCode.SSE_CAPACITY_EXCEEDED);
+        }
+
+        Subscription subscription = new Subscription();
+        List<Subscription> evicted = new ArrayList<>();
+        MemberChannel channel = channels.compute(memberId, (id, existing) -> {
+            MemberChannel updated = (existing == null) ? new MemberChannel() : existing;
+            updated.subscriptions.add(subscription);
+            while (updated.subscriptions.size() > maxConnectionsPerMember) {
+                evicted.add(updated.subscriptions.remove(0));
+            }
+            return updated;
+        });
+        subscription.events = channel.sink.asFlux();
+
+        for (Subscription old : evicted) {
+            log.info("연결 수 제한으로 가장 오래된 SSE 연결을 종료합니다. memberId: {}", memberId);
+            activeCount.decrementAndGet();
+            evictedCount.incrementAndGet();
+            old.close();
+        }
+        return subscription;
+    }
+
+    /**
+     * 연결 해제 (이미 밀려난 연결이면 아무것도 하지 않음)
+     */
+    public void unregister(Long memberId, Subscription subscription) {
+        channels.computeIfPresent(memberId, (id, channel) -> {
+            if (channel.subscriptions.remove(subscription)) {
+                activeCount.decrementAndGet();
+            }
+            return channel.subscriptions.isEmpty() ? null : channel;
+        });
+    }
+
+    /**
+     * 이 인스턴스에 연결된 해당 회원의 모든 연결로 전달
+     * @return 연결이 있어 전달했으면 true
+     */
+    public boolean deliver(Long memberId, ServerSentEvent<Object> event) {
+        MemberChannel channel = channels.get(memberId);
+        if (channel == null) {
+            ignoredCount.incrementAndGet();
+            return false;
+        }
+        channel.sink.emitNext(event, RETRY_NON_SERIALIZED);
+        deliveredCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * @return 이 인스턴스의 전체 SSE 연결 수 (회원 수가 아닌 기기 연결 수)
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.gateway.connections", activeCount, AtomicInteger::get)
+                .description("이 게이트웨이에 연결된 SSE 구독 수")
+                .register(registry);
+        Gauge.builder("sse.gateway.members", channels, Map::size)
+                .description("이 게이트웨이에 연결이 하나 이상 있는 회원 수")
+                .register(registry);
+        FunctionCounter.builder("sse.gateway.events", deliveredCount, AtomicLong::get)
+                .description("Redis에서 받아 회원 연결로 넘긴 이벤트 수")
+                .tag("result", "delivered")
+                .register(registry);
+        FunctionCounter.builder("sse.gateway.events", ignoredCount, AtomicLong::get)
+                .description("Redis에서 받아 회원 연결로 넘긴 이벤트 수")
+                .tag("result", "no_subscriber")
+                .register(registry);
+        FunctionCounter.builder("sse.gateway.rejected", rejectedCount, AtomicLong::get)
+                .description("연결 수 상한 초과로 거절한 구독 수")
+                .register(registry);
+        FunctionCounter.builder("sse.gateway.evicted", evictedCount, AtomicLong::get)
+                .description("회원당 연결 수 제한으로 종료한 구독 수")
+                .register(registry);
+    }
+
+    /**
+     * 회원 한 명의 Sink와 연결 목록 (목록은 compute 안에서만 변경)
+     */
+    private static final class MemberChannel {
+        private final Sinks.Many<ServerSentEvent<Object>> sink = Sinks.many().multicast().directBestEffort();
+        private final List<Subscription> subscriptions = new ArrayList<>(1);
+    }
+
+    /**
+     * 연결 하나 (회원 Sink 구독 + 밀려났을 때 종료 신호)
+     */
+    public static final class Subscription {
+        private final Sinks.Empty<Void> closed = Sinks.empty();
+        private Flux<ServerSentEvent<Object>> events;
+
+        /**
+         * 회원에게 전달되는 실시간 이벤트 (구독한 뒤부터)
+         */
+        public Flux<ServerSentEvent<Object>> events() {
+            return events;
+        }
+
+        /**
+         * 회원당 연결 수 제한으로 밀려나면 완료
+         */
+        public Mono<Void> closed() {
+            return closed.asMono();
+        }
+
+        private void close() {
+            closed.tryEmitEmpty();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.ssegateway;
+
+import com.example.backend.dto.SseMessage;
+import com.example.backend.service.SseEventBuffer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * 구독 스트림 조립 (백엔드 SseService.subscribe와 같은 순서/이벤트 형식)
+ * 1. 연결 등록 (회원 Sink 구독)
+ * 2. connect 이벤트 (503 방지용 첫 응답)
+ * 3. Last-Event-ID 이후 놓친 이벤트 재전송 (등록 후 조회하므로 중간 이벤트는 중복될 수 있음 -> 클라이언트가 ID로 무시)
+ * 4. 하트비트 주석(": ping") - 연결마다 자기 연결 시각 기준으로 돌아 한 시점에 몰리지 않음
+ * 연결은 timeout(기본 1시간, Access Token 수명)이 지나면 서버가 끝내고, 브라우저는 새 토큰으로 재연결합니다.
+ */
+@Slf4j
+@Service
+public class SubscriptionService {
+
+    private final SubscriptionRegistry registry;
+    private final SseEventBuffer eventBuffer;
+    private final Duration heartbeatInterval;
+    private final Duration timeout;
+
+    public SubscriptionService(SubscriptionRegistry registry,
+                               SseEventBuffer eventBuffer,
+                               @Value("${sse.gateway.heartbeat-interval:PT30S}") Duration heartbeatInterval,
+                               @Value("${sse.gateway.timeout:PT1H}") Duration timeout) {
+        this.registry = registry;
+        this.eventBuffer = eventBuffer;
+        this.heartbeatInterval = heartbeatInterval;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 이벤트 ID (Last-Event-ID), 최초 연결이면 null
+     */
+    public Flux<ServerSentEvent<Object>> subscribe(Long memberId, String lastEventId) {
+        return Flux.defer(() -> {
+            SubscriptionRegistry.Subscription subscription = registry.register(memberId);
+            log.debug("SSE 연결 시작: memberId = {}, lastEventId = {}", memberId, lastEventId);
+
+            Flux<ServerSentEvent<Object>> greeting = Flux.concat(
+                    Mono.just(event(null, "connect", "Connected [userId=" + memberId + "]")),
+                    replay(memberId, lastEventId));
+            Flux<ServerSentEvent<Object>> heartbeat = Flux.interval(heartbeatInterval)
+                    .map(tick -> ServerSentEvent.<Object>builder().comment("ping").build());
+
+            return Flux.merge(subscription.events(), greeting, heartbeat)
+                    .takeUntilOther(subscription.closed())
+                    .take(timeout)
+                    .doFinally(signal -> {
+                        registry.unregister(memberId, subscription);
+                        log.debug("SSE 연결 종료({}): memberId = {}", signal, memberId);
+                    });
+        });
+    }
+
+    // 버퍼 조회는 블로킹 Redis 호출이므로 이벤트 루프 밖에서 수행
+    private Flux<ServerSentEvent<Object>> replay(Long memberId, String lastEventId) {
+        Long lastId = parseEventId(lastEventId);
+        if (lastId == null) {
+            return Flux.empty();
+        }
+        return Mono.fromCallable(() -> eventBuffer.readAfter(memberId, lastId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(replay -> {
+                    log.info("SSE 재전송: memberId={}, lastEventId={}, count={}", memberId, lastId, replay.events().size());
+                    Flux<ServerSentEvent<Object>> missed = Flux.fromIterable(replay.events()).map(SubscriptionService::event);
+                    if (!replay.truncated()) {
+                        return missed;
+                    }
+                    // 버퍼보다 많이 놓친 경우: 클라이언트가 알림 목록을 다시 조회하도록 안내
+                    return missed.concatWithValues(event(null, "resync", "missed events exceeded replay buffer"));
+                });
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 Last-Event-ID 형식이라 재전송하지 않습니다: {}", lastEventId);
+            return null;
+        }
+    }
+
+    static ServerSentEvent<Object> event(SseMessage message) {
+        return event(message.getEventId(), message.getEventName(), message.getData());
+    }
+
+    static ServerSentEvent<Object> event(Long eventId, String eventName, Object data) {
+        ServerSentEvent.Builder<Object> event = ServerSentEvent.builder(data).event(eventName);
+        if (eventId != null) {
+            event.id(String.valueOf(eventId));
+        }
+        return event.build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.ssegateway;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import com.example.backend.common.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 백엔드 SseControllerTest와 같은 계약을 게이트웨이에서 확인 (인증은 토큰으로 직접)
+ */
+@WebFluxTest(SseGatewayController.class)
+@Import(SubscriptionAuthenticator.class)
+class SseGatewayControllerTest {
+
+    private static final String TOKEN = "access-token";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private ReactiveStringRedisTemplate redisTemplate;
+
+    @MockitoBean
+    private SubscriptionService subscriptionService;
+
+    private final Claims claims = mock(Claims.class);
+
+    @BeforeEach
+    void setUp() {
+        given(jwtTokenProvider.parseVerifiedClaims(TOKEN)).willReturn(claims);
+        given(jwtTokenProvider.getTokenId(claims, TOKEN)).willReturn("jti-1");
+        given(redisTemplate.hasKey("BL:jti-1")).willReturn(Mono.just(false));
+    }
+
+    @Test
+    @DisplayName("성공: 토큰의 회원 ID로 구독하고 text/event-stream으로 connect 이벤트를 보낸다")
+    void subscribe_Success() {
+        authenticateAs(1L);
+        given(subscriptionService.subscribe(1L, null))
+                .willReturn(Flux.just(SubscriptionService.event(null, "connect", "Connected [userId=1]")));
+
+        webTestClient.get().uri("/api/subscribe?token=" + TOKEN)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .expectBody(String.class)
+                .value(body -> assertThat(body).contains("event:connect"));
+
+        verify(subscriptionService, times(1)).subscribe(1L, null);
+    }
+
+    @Test
+    @DisplayName("재연결: Authorization 헤더 토큰과 Last-Event-ID를 받아 놓친 이벤트를 재전송하게 한다")
+    void subscribe_WithBearerAndLastEventId_PassesToService() {
+        authenticateAs(1L);
+        given(subscriptionService.subscribe(1L, "42")).willReturn(Flux.empty());
+
+        webTestClient.get().uri("/api/subscribe")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+                .header("Last-Event-ID", "42")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(subscriptionService, times(1)).subscribe(1L, "42");
+    }
+
+    @Test
+    @DisplayName("실패: 인증 정보의 형식이 숫자가 아닐 경우 401을 반환한다")
+    void subscribe_Fail_InvalidMemberIdFormat() {
+        given(jwtTokenProvider.getAuthentication(claims))
+                .willReturn(new UsernamePasswordAuthenticationToken("not_a_number", null, List.of()));
+
+        webTestClient.get().uri("/api/subscribe?token=" + TOKEN)
+                .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.code").isEqualTo("AUTH_002");
+
+        verify(subscriptionService, never()).subscribe(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("실패: 토큰 없이 구독을 요청하면 401을 반환한다")
+    void subscribe_Fail_UnAuthorized() {
+        webTestClient.get().uri("/api/subscribe")
+                .accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("실패: 만료된 토큰은 백엔드 필터와 같은 401 EXPIRED_TOKEN을 반환한다 (프론트 재발급 조건)")
+    void subscribe_Fail_ExpiredToken() {
+        given(jwtTokenProvider.parseVerifiedClaims("expired"))
+                .willThrow(new CustomException(ErrorCode.EXPIRED_TOKEN));
+
+        webTestClient.get().uri("/api/subscribe?token=expired")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(401)
+                .jsonPath("$.code").isEqualTo("EXPIRED_TOKEN");
+
+        verify(subscriptionService, never()).subscribe(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("실패: 변조된 토큰은 백엔드 필터와 같은 401 INVALID_TOKEN을 반환한다")
+    void subscribe_Fail_TamperedToken() {
+        given(jwtTokenProvider.parseVerifiedClaims("tampered"))
+                .willThrow(new CustomException(ErrorCode.INVALID_TOKEN));
+
+        webTestClient.get().uri("/api/subscribe?token=tampered")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.code").isEqualTo("INVALID_TOKEN");
+    }
+
+    @Test
+    @DisplayName("실패: 로그아웃된(블랙리스트) 토큰은 백엔드 필터와 같은 401 LOGOUT_TOKEN을 반환한다")
+    void subscribe_Fail_LogoutToken() {
+        authenticateAs(1L);
+        given(redisTemplate.hasKey("BL:jti-1")).willReturn(Mono.just(true));
+
+        webTestClient.get().uri("/api/subscribe?token=" + TOKEN)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.code").isEqualTo("LOGOUT_TOKEN");
+
+        verify(subscriptionService, never()).subscribe(anyLong(), any());
+    }
+
+    private void authenticateAs(Long memberId) {
+        given(jwtTokenProvider.getAuthentication(claims))
+                .willReturn(new UsernamePasswordAuthenticationToken(memberId, null, List.of()));
+    }
+}
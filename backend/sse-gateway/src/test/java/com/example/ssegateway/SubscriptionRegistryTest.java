@@ -0,0 +1,88 @@
+package com.example.ssegateway;
+
+import com.example.backend.common.exception.CustomException;
+import com.example.backend.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SubscriptionRegistryTest {
+
+    private final ServerSentEvent<Object> event = SubscriptionService.event(1L, "notification", "hello");
+
+    @Test
+    @DisplayName("전달: 같은 회원의 모든 연결(기기)로 이벤트를 보낸다")
+    void deliver_AllConnectionsOfMember() {
+        SubscriptionRegistry registry = new SubscriptionRegistry(100, 5);
+        List<ServerSentEvent<Object>> phone = new ArrayList<>();
+        List<ServerSentEvent<Object>> laptop = new ArrayList<>();
+        Disposable first = registry.register(1L).events().subscribe(phone::add);
+        Disposable second = registry.register(1L).events().subscribe(laptop::add);
+
+        boolean delivered = registry.deliver(1L, event);
+
+        assertThat(delivered).isTrue();
+        assertThat(phone).containsExactly(event);
+        assertThat(laptop).containsExactly(event);
+        assertThat(registry.deliver(2L, event)).isFalse(); // 연결 없는 회원
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    @DisplayName("회원당 제한: 상한을 넘으면 가장 오래된 연결을 종료한다")
+    void register_OverMemberLimit_ClosesOldest() {
+        SubscriptionRegistry registry = new SubscriptionRegistry(100, 2);
+        SubscriptionRegistry.Subscription oldest = registry.register(1L);
+        SubscriptionRegistry.Subscription middle = registry.register(1L);
+
+        registry.register(1L);
+
+        StepVerifier.create(oldest.closed()).expectComplete().verify(Duration.ofSeconds(1));
+        assertThat(registry.getActiveCount()).isEqualTo(2);
+
+        // 밀려난 연결의 해제 요청은 집계를 다시 줄이지 않음
+        registry.unregister(1L, oldest);
+        assertThat(registry.getActiveCount()).isEqualTo(2);
+        registry.unregister(1L, middle);
+        assertThat(registry.getActiveCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 제한: 인스턴스 연결 수 상한을 넘으면 503으로 거절하고, 해제되면 다시 받는다")
+    void register_OverCapacity_Rejects() {
+        SubscriptionRegistry registry = new SubscriptionRegistry(1, 5);
+        SubscriptionRegistry.Subscription subscription = registry.register(1L);
+
+        assertThatThrownBy(() -> registry.register(2L))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SSE_CAPACITY_EXCEEDED);
+        assertThat(registry.getActiveCount()).isEqualTo(1);
+
+        registry.unregister(1L, subscription);
+        registry.register(2L);
+        assertThat(registry.getActiveCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해제: 마지막 연결이 끊기면 회원 항목을 지워 더 이상 전달하지 않는다")
+    void unregister_LastConnection_RemovesMember() {
+        SubscriptionRegistry registry = new SubscriptionRegistry(100, 5);
+        SubscriptionRegistry.Subscription subscription = registry.register(1L);
+
+        registry.unregister(1L, subscription);
+
+        assertThat(registry.getActiveCount()).isZero();
+        assertThat(registry.deliver(1L, event)).isFalse();
+    }
+}
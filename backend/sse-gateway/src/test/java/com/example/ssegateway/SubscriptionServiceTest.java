@@ -0,0 +1,55 @@
+package com.example.ssegateway;
+
+import com.example.backend.dto.SseMessage;
+import com.example.backend.service.SseEventBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SubscriptionServiceTest {
+
+    private final SubscriptionRegistry registry = new SubscriptionRegistry(100, 5);
+    private final SseEventBuffer eventBuffer = mock(SseEventBuffer.class);
+
+    @Test
+    @DisplayName("재연결: connect 이후 놓친 이벤트와 resync를 보내고, 그 뒤 실시간 이벤트를 전달한다")
+    void subscribe_WithLastEventId_ReplaysThenStreams() {
+        SubscriptionService service = new SubscriptionService(registry, eventBuffer, Duration.ofSeconds(30), Duration.ofHours(1));
+        given(eventBuffer.readAfter(1L, 40L)).willReturn(new SseEventBuffer.Replay(
+                List.of(new SseMessage(null, 41L, 1L, "notification", "missed")), true));
+
+        StepVerifier.create(service.subscribe(1L, "40"))
+                .assertNext(event -> assertThat(event.event()).isEqualTo("connect"))
+                .assertNext(event -> {
+                    assertThat(event.id()).isEqualTo("41");
+                    assertThat(event.data()).isEqualTo("missed");
+                })
+                .assertNext(event -> assertThat(event.event()).isEqualTo("resync"))
+                .then(() -> registry.deliver(1L, SubscriptionService.event(42L, "notification", "live")))
+                .assertNext(event -> assertThat(event.id()).isEqualTo("42"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(registry.getActiveCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료: timeout이 지나면 스트림을 끝내고 연결을 해제한다")
+    void subscribe_Timeout_CompletesAndUnregisters() {
+        SubscriptionService service = new SubscriptionService(registry, eventBuffer, Duration.ofSeconds(30), Duration.ofMillis(200));
+
+        StepVerifier.create(service.subscribe(1L, null))
+                .assertNext(event -> assertThat(event.event()).isEqualTo("connect"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(registry.getActiveCount()).isZero();
+    }
+}
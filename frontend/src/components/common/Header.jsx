@@ -7,11 +7,14 @@ const Header = () => {
   const navigate = useNavigate();
   const [isLoggedIn, setIsLoggedIn] = useState(false);
   const [notifications, setNotifications] = useState([]); 
+  const [unreadCount, setUnreadCount] = useState(0);      // 서버 캐시 카운터 기준 (목록 전체를 받지 않음)
+  const [nextCursor, setNextCursor] = useState(null);     // 알림 목록 다음 페이지 커서
   const [isNotiOpen, setIsNotiOpen] = useState(false);    
   const notiRef = useRef(null); 
 
   // 💡 SSE 연결을 관리할 ref (중복 연결 방지 및 클린업 용도)
   const eventSourceRef = useRef(null);
+  const lastEventIdRef = useRef(null); // 재연결 시 놓친 알림만 받기 위한 마지막 이벤트 ID
 
   // 1. 초기 로드 및 로그인 상태 확인
   useEffect(() => {
@@ -20,7 +23,7 @@ const Header = () => {
     setIsLoggedIn(loggedIn);
 
     if (loggedIn) {
-      fetchNotifications();
+      fetchUnreadCount();
       // 🚀 로그인 상태라면 SSE 연결 시작
       connectSSE(token);
     }
@@ -37,8 +40,10 @@ const Header = () => {
 const connectSSE = (token) => {
     if (eventSourceRef.current) return;
 
-    // 💡 주소 뒤에 반드시 토큰이 잘 붙는지 확인!
-    const eventSource = new EventSource(`/api/subscribe?token=${token}`);
+    // 💡 주소 뒤에 반드시 토큰이 잘 붙는지 확인! (재연결이면 마지막 이벤트 ID도 함께 전달)
+    const lastEventId = lastEventIdRef.current;
+    const query = lastEventId ? `token=${token}&lastEventId=${lastEventId}` : `token=${token}`;
+    const eventSource = new EventSource(`/api/subscribe?${query}`);
     eventSourceRef.current = eventSource;
 
     // 연결 확인 로그
@@ -49,6 +54,7 @@ const connectSSE = (token) => {
     // 💡 백엔드의 "newNotification"을 정확히 구독
     eventSource.addEventListener("newNotification", (event) => {
       console.log("🔔 SSE 수신 성공! 데이터:", event.data);
+      if (event.lastEventId) lastEventIdRef.current = event.lastEventId;
       
       const newNotiObj = {
         id: Date.now(),
@@ -59,25 +65,56 @@ const connectSSE = (token) => {
       };
 
       setNotifications(prev => [newNotiObj, ...prev]);
+      setUnreadCount(prev => prev + 1);
+    });
+
+    // 끊긴 사이 놓친 알림이 재전송 버퍼보다 많으면 개수와 첫 페이지를 다시 조회
+    eventSource.addEventListener("resync", () => {
+      fetchUnreadCount();
+      fetchNotifications();
     });
 
     eventSource.onerror = (error) => {
       console.error("❌ SSE 에러 발생:", error);
       eventSource.close();
       eventSourceRef.current = null;
+
+      // 잠시 후 재연결 (lastEventId로 끊긴 동안의 알림만 재전송 받음)
+      setTimeout(() => {
+        const currentToken = localStorage.getItem('accessToken');
+        if (currentToken) connectSSE(currentToken);
+      }, 3000);
     };
   };
 
-  // 2. 알림 데이터 가져오기 (조회)
-  const fetchNotifications = async () => {
+  // 2. 알림 데이터 가져오기 (배지는 개수만, 목록은 알림창을 열 때 페이지 단위로 조회)
+  const fetchUnreadCount = async () => {
     try {
-      const response = await api.get('/notifications');
-      setNotifications(response.data);
+      const response = await api.get('/notifications/unread-count');
+      setUnreadCount(response.data.count);
+    } catch (error) {
+      console.error("알림 개수 로드 실패:", error);
+    }
+  };
+
+  const fetchNotifications = async (cursor = null) => {
+    try {
+      const response = await api.get('/notifications', {
+        params: { size: 20, ...(cursor ? { cursor } : {}) },
+      });
+      const { content, nextCursor: next } = response.data;
+      setNotifications(prev => (cursor ? [...prev, ...content] : content));
+      setNextCursor(next);
     } catch (error) {
       console.error("알림 로드 실패:", error);
     }
   };
 
+  const toggleNotifications = () => {
+    if (!isNotiOpen) fetchNotifications();
+    setIsNotiOpen(!isNotiOpen);
+  };
+
   // 3. 외부 클릭 시 알림창 닫기 (기존 로직 유지)
   useEffect(() => {
     const handleClickOutside = (e) => {
@@ -90,12 +127,13 @@ const connectSSE = (token) => {
   }, []);
 
   // 4. 알림 클릭 시 읽음 처리 및 이동
-  const handleNotiClick = async (id, url) => {
+  const handleNotiClick = async (id, url, isRead) => {
     try {
       await api.patch(`/notifications/${id}/read`);
       setNotifications(prev => 
         prev.map(n => n.id === id ? { ...n, isRead: true } : n)
       );
+      if (!isRead) setUnreadCount(prev => Math.max(prev - 1, 0));
       setIsNotiOpen(false);
       navigate(url);
     } catch (error) {
@@ -105,18 +143,30 @@ const connectSSE = (token) => {
   };
 
   // 5. 알림 삭제 처리
-  const handleNotiDelete = async (e, id) => {
+  const handleNotiDelete = async (e, id, isRead) => {
     e.stopPropagation();
     try {
       await api.delete(`/notifications/${id}`);
       setNotifications(prev => prev.filter(n => n.id !== id));
+      if (!isRead) setUnreadCount(prev => Math.max(prev - 1, 0));
     } catch (error) {
       console.error("알림 삭제 실패:", error);
       alert("알림 삭제에 실패했습니다.");
     }
   };
 
-  // 6. 로그아웃 처리
+  // 6. 모두 읽음 처리
+  const handleReadAll = async () => {
+    try {
+      await api.patch('/notifications/read-all');
+      setNotifications(prev => prev.map(n => ({ ...n, isRead: true })));
+      setUnreadCount(0);
+    } catch (error) {
+      console.error("모두 읽음 처리 실패:", error);
+    }
+  };
+
+  // 7. 로그아웃 처리
   const handleLogout = async () => {
     if (!window.confirm("로그아웃 하시겠습니까?")) return;
     try {
@@ -133,13 +183,13 @@ const connectSSE = (token) => {
       localStorage.removeItem('refreshToken');
       setIsLoggedIn(false);
       setNotifications([]); 
+      setUnreadCount(0);
+      setNextCursor(null);
       alert("로그아웃 되었습니다. 👋");
       navigate('/');
     }
   };
 
-  const unreadCount = notifications.filter(n => !n.isRead).length;
-
   return (
     <header className="main-header">
       <div className="header-inner">
@@ -160,7 +210,7 @@ const connectSSE = (token) => {
               <div className="noti-container" ref={notiRef}>
                 <button 
                   className={`btn-noti ${isNotiOpen ? 'active' : ''}`} 
-                  onClick={() => setIsNotiOpen(!isNotiOpen)}
+                  onClick={toggleNotifications}
                 >
                   <span className="noti-icon">🔔</span>
                   {unreadCount > 0 && <span className="noti-badge">{unreadCount}</span>}
@@ -168,14 +218,19 @@ const connectSSE = (token) => {
 
                 {isNotiOpen && (
                   <div className="noti-dropdown">
-                    <div className="noti-header">최근 알림</div>
+                    <div className="noti-header">
+                      최근 알림
+                      {unreadCount > 0 && (
+                        <button className="btn-noti-read-all" onClick={handleReadAll}>모두 읽음</button>
+                      )}
+                    </div>
                     <div className="noti-list">
                       {notifications.length > 0 ? (
                         notifications.map(n => (
                           <div 
                             key={n.id} 
                             className={`noti-item ${n.isRead ? '' : 'unread'}`}
-                            onClick={() => handleNotiClick(n.id, n.url)}
+                            onClick={() => handleNotiClick(n.id, n.url, n.isRead)}
                           >
                             <div className="noti-content-wrapper">
                               <p>{n.content}</p>
@@ -185,7 +240,7 @@ const connectSSE = (token) => {
                             </div>
                             <button 
                               className="btn-noti-delete"
-                              onClick={(e) => handleNotiDelete(e, n.id)}
+                              onClick={(e) => handleNotiDelete(e, n.id, n.isRead)}
                             >
                               &times;
                             </button>
@@ -194,6 +249,11 @@ const connectSSE = (token) => {
                       ) : (
                         <div className="noti-empty">새로운 알림이 없습니다.</div>
                       )}
+                      {nextCursor && (
+                        <div className="noti-more" onClick={() => fetchNotifications(nextCursor)}>
+                          더 보기
+                        </div>
+                      )}
                     </div>
                     <div className="noti-footer" onClick={() => navigate('/mypage')}>
                       전체 보기
@@ -14,11 +14,10 @@ const HomePage = () => {
         const fetchHomeMeetings = async () => {
             try {
                 const response = await api.get('/meetings', {
-                    params: { sortBy: 'latest' } 
+                    params: { sortBy: 'latest', size: 8 } // 홈 화면에 맞게 상위 8개만 요청
                 });
                 
-                // 홈 화면에 맞게 상위 8개만 표시
-                setMeetings(response.data.slice(0, 8));
+                setMeetings(response.data.content);
             } catch (error) {
                 console.error("데이터 로딩 실패:", error);
                 // 💡 만약 토큰이 변조되었다면 여기서 인터셉터가 401을 잡아 
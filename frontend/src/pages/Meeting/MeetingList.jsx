@@ -11,6 +11,8 @@ const MeetingList = () => {
     const [meetings, setMeetings] = useState([]);
     const [categories, setCategories] = useState([]);
     const [status, setStatus] = useState('loading'); 
+    const [nextCursor, setNextCursor] = useState(null); // 다음 페이지 커서 (없으면 마지막 페이지)
+    const [loadingMore, setLoadingMore] = useState(false);
     
     // 필터 및 정렬 상태
     const [sortBy, setSortBy] = useState('latest');
@@ -50,9 +52,10 @@ const MeetingList = () => {
                 });
                 
                 if (response.status === 200) {
-                    const data = response.data;
-                    setMeetings(data);
-                    setStatus(data.length === 0 ? 'empty' : 'success');
+                    const { content, nextCursor } = response.data;
+                    setMeetings(content);
+                    setNextCursor(nextCursor);
+                    setStatus(content.length === 0 ? 'empty' : 'success');
                 }
             } catch (error) {
                 console.error("모임 데이터 로딩 실패:", error);
@@ -63,6 +66,24 @@ const MeetingList = () => {
         fetchMeetings();
     }, [categoryId, sortBy]);
 
+    // 3. 더 보기 (커서 기반 다음 페이지)
+    const handleLoadMore = async () => {
+        if (!nextCursor || loadingMore) return;
+        setLoadingMore(true);
+        try {
+            const response = await api.get('/meetings', {
+                params: { categoryId, sortBy, cursor: nextCursor }
+            });
+            const { content, nextCursor: cursor } = response.data;
+            setMeetings(prev => [...prev, ...content]);
+            setNextCursor(cursor);
+        } catch (error) {
+            console.error("다음 페이지 로딩 실패:", error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     // 새 모임 만들기 클릭 핸들러 (인증 체크)
     const handleCreateClick = () => {
         // 키 이름을 'accessToken'으로 통일
@@ -172,6 +193,14 @@ const MeetingList = () => {
                         ))}
                     </div>
                 )}
+
+                {status === 'success' && nextCursor && (
+                    <div className="load-more">
+                        <button onClick={handleLoadMore} disabled={loadingMore}>
+                            {loadingMore ? '불러오는 중...' : '더 보기'}
+                        </button>
+                    </div>
+                )}
             </div>
         </div>
     );